@@ -0,0 +1,72 @@
+package bench;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Runs the benchmarks and publishes the results:
+//   target/jmh/locators.json   raw JMH results (throughput in ops/ms, sample-time latency in ms)
+//   target/jmh/locators.txt    one line per benchmark: ops/s and p50/p95/p99 latency
+// Usage: mvn -Pbench verify [-Dbench.include=detail_]
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length > 0 ? args[0] : System.getProperty("bench.include", LocatorBenchmark.class.getName());
+        Path dir = Paths.get("target", "jmh");
+        Files.createDirectories(dir);
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(dir.resolve("locators.json").toString())
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        String summary = summary(results);
+        Files.writeString(dir.resolve("locators.txt"), summary, StandardCharsets.UTF_8);
+        System.out.println(summary);
+    }
+
+    static String summary(Collection<RunResult> results) {
+        Map<String, double[]> rows = new TreeMap<>();
+        for (RunResult run : results) {
+            String name = run.getParams().getBenchmark();
+            name = name.substring(name.lastIndexOf('.') + 1);
+            double[] row = rows.computeIfAbsent(name, k -> new double[] { Double.NaN, Double.NaN, Double.NaN, Double.NaN });
+            Result<?> primary = run.getPrimaryResult();
+            switch (run.getParams().getMode()) {
+                case Throughput:
+                    row[0] = primary.getScore() * 1000;
+                    break;
+                case SampleTime:
+                    Statistics stats = primary.getStatistics();
+                    row[1] = stats.getPercentile(50);
+                    row[2] = stats.getPercentile(95);
+                    row[3] = stats.getPercentile(99);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder("Locator benchmarks\n");
+        sb.append(String.format("  %-36s %10s %9s %9s %9s%n", "", "ops/s", "p50 ms", "p95 ms", "p99 ms"));
+        rows.forEach((name, r) -> sb.append(String.format("  %-36s %10.1f %9.2f %9.2f %9.2f%n", name, r[0], r[1], r[2], r[3])));
+        return sb.toString();
+    }
+}
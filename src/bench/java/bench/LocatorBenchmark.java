@@ -0,0 +1,322 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import pages.HobbyClubPage;
+import pages.LoginPage;
+import pages.VendorPage;
+import utils.Config;
+import utils.DomBatch;
+import utils.DriverFactory;
+import utils.ExcelReader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cost of the locators the page objects use, next to CSS and single-script alternatives. Every state
+// starts its own headless Chrome against the embedded fixture (utils.FixtureServer) and parks it on the
+// page the locators belong to; the benchmarks then only measure the lookups.
+//
+// Naming: <page>_<what>_<strategy>, so alternatives for the same element sort next to each other.
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class LocatorBenchmark {
+    static final String POST_TEXT = "Welcome to the Photography Club!";
+
+    public abstract static class PageState {
+        WebDriver driver;
+        WebDriverWait wait;
+        JavascriptExecutor js;
+
+        void start(boolean login) {
+            // The command timing decorator would add its own overhead to every lookup.
+            System.setProperty("command.timing", "false");
+            Config.applySuiteMode("fixture");
+            driver = DriverFactory.createDriver("fixture");
+            wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            js = (JavascriptExecutor) driver;
+            LoginPage loginPage = new LoginPage(driver, wait);
+            loginPage.openLoginPage();
+            if (login) {
+                Object[] credentials = ExcelReader.firstRow(ExcelReader.TEST_DATA, "LoginData");
+                loginPage.login(credentials[0].toString(), credentials[1].toString());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void quit() {
+            if (driver != null) driver.quit();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SigninPage extends PageState {
+        @Setup(Level.Trial)
+        public void open() {
+            start(false);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class HomePage extends PageState {
+        @Setup(Level.Trial)
+        public void open() {
+            start(true);
+            driver.get(Config.url("/"));
+            // The popup only lists zones once a country is chosen.
+            WebElement country = wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("select.p3.h-16.koreanNoTranslate")));
+            new Select(country).selectByVisibleText("India");
+            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("div[class*='LocationPopUp_zoneName']")));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ListingPage extends PageState {
+        @Setup(Level.Trial)
+        public void open() {
+            start(true);
+            HobbyClubPage page = new HobbyClubPage(driver, wait);
+            page.openHobbyClubsPage();
+            page.selectCountryAndCityIfVisible("India", "Gurgaon");
+            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("div[class*='HobbyCardComponent_hobbyCard']")));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DetailPage extends PageState {
+        WebElement post;
+
+        @Setup(Level.Trial)
+        public void open() {
+            start(true);
+            driver.get(Config.url("/pages/hobby_club_detail?id=1"));
+            post = wait.until(ExpectedConditions.presenceOfElementLocated(
+                    By.xpath("//div[contains(@class,'Feed_newsFeedContainer__')][.//div[text()='" + POST_TEXT + "']]")));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class MembersTab extends PageState {
+        @Setup(Level.Trial)
+        public void open() {
+            start(true);
+            driver.get(Config.url("/pages/hobby_club_detail?id=1"));
+            wait.until(ExpectedConditions.elementToBeClickable(By.id("Members"))).click();
+            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[placeholder='Search']")));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class VendorListing extends PageState {
+        @Setup(Level.Trial)
+        public void open() {
+            start(true);
+            new VendorPage(driver, wait).navigateToVendorSection();
+            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(".Vendor_vendorComponentContainer__X65Vl")));
+        }
+    }
+
+    // ---- LoginPage ---------------------------------------------------------------------------
+
+    @Benchmark
+    public WebElement signin_email_byName(SigninPage s) {
+        return s.driver.findElement(By.name("email"));
+    }
+
+    @Benchmark
+    public WebElement signin_email_css(SigninPage s) {
+        return s.driver.findElement(By.cssSelector("input[name='email']"));
+    }
+
+    @Benchmark
+    public WebElement signin_button_cssContains(SigninPage s) {
+        return s.driver.findElement(By.cssSelector("button[class*='Login_login']"));
+    }
+
+    @Benchmark
+    public WebElement signin_button_cssExactClass(SigninPage s) {
+        return s.driver.findElement(By.cssSelector("button.Login_login__Lg7xQ"));
+    }
+
+    // ---- Location popup (HobbyClubPage / VendorPage) -----------------------------------------
+
+    @Benchmark
+    public WebElement popup_zone_xpathText(HomePage s) {
+        return s.driver.findElement(By.xpath("//div[contains(@class,'LocationPopUp_zoneName') and text()='Gurgaon']"));
+    }
+
+    @Benchmark
+    public Object popup_zone_js(HomePage s) {
+        return s.js.executeScript("return Array.from(document.querySelectorAll(\"div[class*='LocationPopUp_zoneName']\"))"
+                + ".find(el => el.textContent === arguments[0]);", "Gurgaon");
+    }
+
+    @Benchmark
+    public WebElement popup_country_css(HomePage s) {
+        return s.driver.findElement(By.cssSelector("select.p3.h-16.koreanNoTranslate"));
+    }
+
+    // ---- HobbyClubPage listing ---------------------------------------------------------------
+
+    @Benchmark
+    public List<WebElement> listing_cards_xpathContains(ListingPage s) {
+        return s.driver.findElements(By.xpath("//div[contains(@class,'HobbyCardComponent_hobbyCard')]"));
+    }
+
+    @Benchmark
+    public List<WebElement> listing_cards_css(ListingPage s) {
+        return s.driver.findElements(By.cssSelector("div[class*='HobbyCardComponent_hobbyCard']"));
+    }
+
+    // How the listing used to be read: three lookups and three getText calls per card.
+    @Benchmark
+    public List<String> listing_harvest_perElement(ListingPage s) {
+        List<String> values = new ArrayList<>();
+        for (WebElement card : s.driver.findElements(By.xpath("//div[contains(@class,'HobbyCardComponent_hobbyCard')]"))) {
+            values.add(card.findElement(By.cssSelector(".inner_text_container p.p1")).getText());
+            values.add(card.findElement(By.cssSelector(".inner_text_container p:nth-of-type(2)")).getText());
+            values.add(card.findElement(By.cssSelector(".HobbyCardComponent_descriptionText__DCzmn p b")).getText());
+        }
+        return values;
+    }
+
+    @Benchmark
+    public List<DomBatch.DomRecord> listing_harvest_domBatch(ListingPage s) {
+        return DomBatch.select("div[class*='HobbyCardComponent_hobbyCard']")
+                .field("name", ".inner_text_container p.p1")
+                .field("members", ".inner_text_container p:nth-of-type(2)")
+                .field("quote", ".HobbyCardComponent_descriptionText__DCzmn p b")
+                .extract(s.driver);
+    }
+
+    // ---- HobbyClubPage detail ----------------------------------------------------------------
+
+    @Benchmark
+    public WebElement detail_name_xpath(DetailPage s) {
+        return s.driver.findElement(By.xpath("//div[@class='font-semibold' and not(contains(text(),'Points'))]"));
+    }
+
+    @Benchmark
+    public WebElement detail_memberCount_xpath(DetailPage s) {
+        return s.driver.findElement(By.xpath("//div[p[text()='Members']]/p[1]"));
+    }
+
+    @Benchmark
+    public Object detail_memberCount_js(DetailPage s) {
+        return s.js.executeScript("const label = Array.from(document.querySelectorAll('div > p'))"
+                + ".find(p => p.textContent === 'Members');"
+                + "return label ? label.parentElement.querySelector('p') : null;");
+    }
+
+    @Benchmark
+    public WebElement detail_quote_xpath(DetailPage s) {
+        return s.driver.findElement(By.xpath("//*[@id='maincomponent-layout-body-wrapper']//p/b"));
+    }
+
+    @Benchmark
+    public WebElement detail_quote_css(DetailPage s) {
+        return s.driver.findElement(By.cssSelector("#maincomponent-layout-body-wrapper p > b"));
+    }
+
+    @Benchmark
+    public WebElement detail_postByText_xpath(DetailPage s) {
+        return s.driver.findElement(
+                By.xpath("//div[contains(@class,'Feed_newsFeedContainer__')][.//div[text()='" + POST_TEXT + "']]"));
+    }
+
+    @Benchmark
+    public Object detail_postByText_js(DetailPage s) {
+        return s.js.executeScript("return Array.from(document.querySelectorAll(\"div[class*='Feed_newsFeedContainer__']\"))"
+                + ".find(post => Array.from(post.querySelectorAll('div')).some(d => d.textContent === arguments[0]));",
+                POST_TEXT);
+    }
+
+    @Benchmark
+    public WebElement detail_likeIcon_xpath(DetailPage s) {
+        return s.post.findElement(By.xpath(".//img[contains(@src,'fb2a529a83.svg')]"));
+    }
+
+    @Benchmark
+    public WebElement detail_likeIcon_css(DetailPage s) {
+        return s.post.findElement(By.cssSelector("img[src*='fb2a529a83.svg']"));
+    }
+
+    @Benchmark
+    public WebElement detail_postButton_xpathText(DetailPage s) {
+        return s.driver.findElement(By.xpath("//button[contains(text(),'Post')]"));
+    }
+
+    @Benchmark
+    public WebElement detail_postTextarea_css(DetailPage s) {
+        return s.driver.findElement(By.cssSelector("textarea.PostStatus_textArea__ySn55"));
+    }
+
+    // ---- HobbyClubPage members tab -----------------------------------------------------------
+
+    @Benchmark
+    public WebElement members_card_xpathTranslate(MembersTab s) {
+        return s.driver.findElement(By.xpath("//div[contains(@class,'flex') and .//div[translate(normalize-space(text()), "
+                + "'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')='arjun mehta']]"));
+    }
+
+    @Benchmark
+    public Object members_card_js(MembersTab s) {
+        return s.js.executeScript("const name = arguments[0];"
+                + "const hit = Array.from(document.querySelectorAll('div'))"
+                + ".find(d => d.childElementCount === 0 && d.textContent.trim().toLowerCase() === name);"
+                + "return hit ? hit.closest(\"div[class*='flex']\") : null;", "arjun mehta");
+    }
+
+    @Benchmark
+    public WebElement members_search_xpath(MembersTab s) {
+        return s.driver.findElement(By.xpath("//input[@placeholder='Search']"));
+    }
+
+    @Benchmark
+    public WebElement members_search_css(MembersTab s) {
+        return s.driver.findElement(By.cssSelector("input[placeholder='Search']"));
+    }
+
+    // ---- VendorPage --------------------------------------------------------------------------
+
+    @Benchmark
+    public WebElement vendor_name_xpath(VendorListing s) {
+        return s.driver.findElement(By.xpath("//h2[contains(@class, 'Vendor_vendorName')]"));
+    }
+
+    @Benchmark
+    public WebElement vendor_name_css(VendorListing s) {
+        return s.driver.findElement(By.cssSelector("h2[class*='Vendor_vendorName']"));
+    }
+
+    // How vendors used to be read: two lookups, getAttribute and getText per container.
+    @Benchmark
+    public List<String[]> vendor_extract_perElement(VendorListing s) {
+        List<String[]> vendors = new ArrayList<>();
+        for (WebElement container : s.driver.findElements(By.cssSelector(".Vendor_vendorComponentContainer__X65Vl"))) {
+            String href = container.findElement(By.cssSelector("a[href*='/deals/']")).getAttribute("href");
+            String name = container.findElement(By.xpath(".//h2[contains(@class, 'Vendor_vendorName')]")).getText();
+            vendors.add(new String[] { href, name });
+        }
+        return vendors;
+    }
+
+    @Benchmark
+    public List<DomBatch.DomRecord> vendor_extract_domBatch(VendorListing s) {
+        return DomBatch.select(".Vendor_vendorComponentContainer__X65Vl")
+                .field("href", "a[href*='/deals/']@href")
+                .field("name", "h2[class*='Vendor_vendorName']")
+                .extract(s.driver);
+    }
+}
@@ -0,0 +1,206 @@
+package listeners;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.IExecutionListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utils.Histogram;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Times every WebDriver/WebElement command and attributes it to the page-object method and test
+// that issued it. Drivers are wrapped in DriverFactory (EventFiringDecorator); registered as a
+// TestNG listener it also tracks the running test and writes the report when the run ends:
+//   target/perf/command-latency.json   per caller+command and per test: count, p50/p95/p99/max, total
+//   target/perf/command-latency.txt    the same as a table, slowest callers first
+// Disable with -Dcommand.timing=false.
+public class CommandTimingListener implements WebDriverListener, ITestListener, IExecutionListener {
+    public static final CommandTimingListener INSTANCE = new CommandTimingListener();
+
+    // Calls that only hand out helper objects (manage().timeouts() etc.) never reach the browser.
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts", "window",
+            "logs", "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals", "getCoordinates");
+
+    private static final Map<String, Histogram> byCaller = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> byTest = new ConcurrentHashMap<>();
+    // Not inheritable: long-lived threads started during a test (pool warmers, writer executors) would keep
+    // its name for good. Commands from helper threads are reported under "(no test)".
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final AtomicBoolean reportHookInstalled = new AtomicBoolean();
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("command.timing", "true"));
+    }
+
+    // ---- WebDriverListener -------------------------------------------------------------------
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (LOCAL_CALLS.contains(method.getName())) return;
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        if (LOCAL_CALLS.contains(method.getName())) return;
+        Long start = starts.get().poll();
+        if (start == null) return;
+        long micros = (System.nanoTime() - start) / 1_000;
+
+        String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        String test = currentTest.get() == null ? "(no test)" : currentTest.get();
+        byCaller.computeIfAbsent(caller() + " → " + command, k -> new Histogram()).record(micros);
+        byTest.computeIfAbsent(test, k -> new Histogram()).record(micros);
+        installReportHook();
+    }
+
+    // Nearest page-object frame, else the nearest test/utility frame that issued the command.
+    private static String caller() {
+        return StackWalker.getInstance().walk(frames -> {
+            String fallback = "(unknown)";
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String cls = frame.getClassName();
+                if (cls.startsWith("pages.")) return simple(cls) + "." + frame.getMethodName();
+                if (fallback.equals("(unknown)") && (cls.startsWith("testngsuite.") || cls.startsWith("utils."))) {
+                    fallback = simple(cls) + "." + frame.getMethodName();
+                }
+            }
+            return fallback;
+        });
+    }
+
+    private static String simple(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested < 0 ? name : name.substring(0, nested);
+    }
+
+    // ---- TestNG ------------------------------------------------------------------------------
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        currentTest.set(result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        currentTest.remove();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        currentTest.remove();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        currentTest.remove();
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        writeReport();
+    }
+
+    // Runs without the TestNG listener (e.g. drivers used from a main()) still get a report.
+    private static void installReportHook() {
+        if (reportHookInstalled.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(CommandTimingListener::writeReport));
+        }
+    }
+
+    // ---- Report ------------------------------------------------------------------------------
+
+    public static synchronized void writeReport() {
+        if (byCaller.isEmpty()) return;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("byCaller", toJson(byCaller));
+        report.put("byTest", toJson(byTest));
+
+        Path dir = Paths.get("target", "perf");
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve("command-latency.json"), new Json().toJson(report), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("command-latency.txt"), summary(), StandardCharsets.UTF_8);
+            System.out.println("⏱️ Command latency report written to " + dir.resolve("command-latency.txt"));
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write command latency report: " + e.getMessage());
+        }
+    }
+
+    // Commands issued while the test ran, keyed "SimpleClass.method"; null when it issued none.
+    public static Histogram forTest(String test) {
+        return byTest.get(test);
+    }
+
+    // Keyed "caller → command", as in the report.
+    public static Map<String, Histogram> byCaller() {
+        return Collections.unmodifiableMap(byCaller);
+    }
+
+    public static String summary() {
+        StringBuilder sb = new StringBuilder();
+        table(sb, "Command latency by caller (ms)", byCaller);
+        sb.append('\n');
+        table(sb, "Command latency by test (ms)", byTest);
+        return sb.toString();
+    }
+
+    private static void table(StringBuilder sb, String title, Map<String, Histogram> histograms) {
+        sb.append(title).append('\n');
+        sb.append(String.format("  %-70s %7s %9s %9s %9s %9s %10s%n", "", "count", "p50", "p95", "p99", "max", "total"));
+        histograms.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().totalMicros(), a.getValue().totalMicros()))
+                .forEach(e -> {
+                    Histogram h = e.getValue();
+                    sb.append(String.format("  %-70s %7d %9.1f %9.1f %9.1f %9.1f %10.0f%n", e.getKey(), h.count(),
+                            ms(h.percentile(50)), ms(h.percentile(95)), ms(h.percentile(99)), ms(h.max()),
+                            ms(h.totalMicros())));
+                });
+    }
+
+    private static Map<String, Object> toJson(Map<String, Histogram> histograms) {
+        Map<String, Object> out = new TreeMap<>();
+        histograms.forEach((key, h) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", h.count());
+            stats.put("p50Ms", ms(h.percentile(50)));
+            stats.put("p95Ms", ms(h.percentile(95)));
+            stats.put("p99Ms", ms(h.percentile(99)));
+            stats.put("maxMs", ms(h.max()));
+            stats.put("totalMs", ms(h.totalMicros()));
+            out.put(key, stats);
+        });
+        return out;
+    }
+
+    private static double ms(long micros) {
+        return Math.round(micros / 100.0) / 10.0;
+    }
+}
@@ -0,0 +1,185 @@
+package listeners;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.xml.XmlSuite;
+import utils.TestHistory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Orders test classes longest-first by their recorded durations (see TestHistory) so parallel workers
+// finish close together. Classes are the unit of scheduling: a class's methods stay together and in
+// the order TestNG gave them, which keeps priority order, dependsOnMethods chains and the page state
+// one test leaves for the next. With no history the default order is kept.
+//
+// The predicted makespan is computed with longest-processing-time-first packing over the workers:
+// -Dscheduler.workers, else the suite's thread-count when it runs in parallel, else 1.
+// Disable with -Dscheduler=false.
+//
+// Sharding: -Dshard=i/n packs the classes into n duration-balanced shards the same way and runs only
+// shard i, so n JVMs (local processes or CI machines) with the same history split the suite without
+// hand-written suite files. utils.ResultMerger combines their testng-results.xml files afterwards.
+public class DurationScheduler implements IMethodInterceptor {
+    // Estimate for methods with no history, when the class has no other recorded methods either.
+    private static final long DEFAULT_METHOD_MILLIS = Long.getLong("scheduler.default.ms", 10_000);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Shard shard = Shard.fromProperty();
+        boolean schedule = Boolean.parseBoolean(System.getProperty("scheduler", "true"));
+        if (!schedule && shard == null) return methods;
+
+        TestHistory history = TestHistory.load();
+        if (history.isEmpty() && shard == null) {
+            System.out.println("📅 No test duration history found; keeping the default order.");
+            return methods;
+        }
+
+        List<TestClass> classes = group(methods, history);
+        classes.sort(Comparator.comparingLong((TestClass c) -> c.estimateMillis).reversed().thenComparing(c -> c.name));
+        System.out.println("📅 Scheduling by duration history (" + (history.isEmpty() ? "none, default estimates" : history) + ")");
+
+        if (shard != null) {
+            // Every shard computes the same packing from the same history and keeps only its own bin.
+            List<List<TestClass>> shards = pack(classes, shard.count);
+            for (int i = 0; i < shards.size(); i++) {
+                System.out.printf("   shard %d/%d: %6.1fs  %s%s%n", i + 1, shard.count, total(shards.get(i)) / 1000.0,
+                        names(shards.get(i)), i == shard.index - 1 ? "  ← this JVM" : "");
+            }
+            classes = shards.get(shard.index - 1);
+            if (classes.isEmpty()) System.out.println("   nothing to run in shard " + shard);
+        }
+
+        int workers = workers(context);
+        List<List<TestClass>> bins = pack(classes, workers);
+        for (int i = 0; i < bins.size(); i++) {
+            System.out.printf("   worker %d: %6.1fs  %s%n", i + 1, total(bins.get(i)) / 1000.0, names(bins.get(i)));
+        }
+        System.out.printf("   predicted makespan %.1fs on %d worker(s), %.1fs serial%n",
+                makespan(bins) / 1000.0, workers, total(classes) / 1000.0);
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        (schedule ? classes : inOriginalOrder(classes, methods)).forEach(c -> ordered.addAll(c.methods));
+        return ordered;
+    }
+
+    private static List<TestClass> inOriginalOrder(List<TestClass> classes, List<IMethodInstance> methods) {
+        List<String> order = new ArrayList<>();
+        methods.forEach(m -> order.add(m.getMethod().getRealClass().getName()));
+        List<TestClass> sorted = new ArrayList<>(classes);
+        sorted.sort(Comparator.comparingInt(c -> order.indexOf(c.name)));
+        return sorted;
+    }
+
+    static List<TestClass> group(List<IMethodInstance> methods, TestHistory history) {
+        Map<String, TestClass> byClass = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            String cls = method.getMethod().getRealClass().getName();
+            byClass.computeIfAbsent(cls, TestClass::new).methods.add(method);
+        }
+        for (TestClass c : byClass.values()) {
+            c.estimateMillis = estimate(c, history);
+        }
+        return new ArrayList<>(byClass.values());
+    }
+
+    // Class overhead plus each method's recorded time; unseen methods are assumed to take as long as the
+    // class's recorded methods do on average.
+    private static long estimate(TestClass c, TestHistory history) {
+        long known = 0;
+        int knownCount = 0;
+        int unknownCount = 0;
+        for (IMethodInstance m : c.methods) {
+            long ms = history.methodMillis(c.name, m.getMethod().getMethodName());
+            if (ms >= 0) {
+                known += ms;
+                knownCount++;
+            } else {
+                unknownCount++;
+            }
+        }
+        long perUnknown = knownCount > 0 ? known / knownCount : DEFAULT_METHOD_MILLIS;
+        return history.classOverheadMillis(c.name) + known + unknownCount * perUnknown;
+    }
+
+    // Longest-processing-time-first: each class (already sorted longest-first) goes to the least loaded
+    // bin, ties to the lowest index, so the same history always produces the same plan.
+    static List<List<TestClass>> pack(List<TestClass> sortedClasses, int bins) {
+        List<List<TestClass>> result = new ArrayList<>();
+        long[] load = new long[bins];
+        for (int i = 0; i < bins; i++) result.add(new ArrayList<>());
+        for (TestClass c : sortedClasses) {
+            int target = 0;
+            for (int i = 1; i < bins; i++) {
+                if (load[i] < load[target]) target = i;
+            }
+            result.get(target).add(c);
+            load[target] += c.estimateMillis;
+        }
+        return result;
+    }
+
+    private static int workers(ITestContext context) {
+        Integer configured = Integer.getInteger("scheduler.workers");
+        if (configured != null && configured > 0) return configured;
+        XmlSuite suite = context.getSuite().getXmlSuite();
+        return suite.getParallel() != null && suite.getParallel().isParallel() ? Math.max(1, suite.getThreadCount()) : 1;
+    }
+
+    static long total(List<TestClass> classes) {
+        return classes.stream().mapToLong(c -> c.estimateMillis).sum();
+    }
+
+    static long makespan(List<List<TestClass>> bins) {
+        return bins.stream().mapToLong(DurationScheduler::total).max().orElse(0);
+    }
+
+    private static String names(List<TestClass> classes) {
+        List<String> names = new ArrayList<>();
+        classes.forEach(c -> names.add(c.name.substring(c.name.lastIndexOf('.') + 1)));
+        return String.join(", ", names);
+    }
+
+    // -Dshard=i/n (1 <= i <= n): run only the i-th of n duration-balanced slices of the suite.
+    static class Shard {
+        final int index;
+        final int count;
+
+        Shard(int index, int count) {
+            this.index = index;
+            this.count = count;
+        }
+
+        static Shard fromProperty() {
+            String value = System.getProperty("shard", "").trim();
+            if (value.isEmpty()) return null;
+            String[] parts = value.split("/");
+            try {
+                Shard shard = new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+                if (parts.length == 2 && shard.count >= 1 && shard.index >= 1 && shard.index <= shard.count) return shard;
+            } catch (RuntimeException ignored) {
+            }
+            throw new IllegalArgumentException("-Dshard must look like i/n with 1 <= i <= n, got '" + value + "'");
+        }
+
+        @Override
+        public String toString() {
+            return index + "/" + count;
+        }
+    }
+
+    static class TestClass {
+        final String name;
+        final List<IMethodInstance> methods = new ArrayList<>();
+        long estimateMillis;
+
+        TestClass(String name) {
+            this.name = name;
+        }
+    }
+}
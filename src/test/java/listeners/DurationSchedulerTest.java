@@ -0,0 +1,73 @@
+package listeners;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DurationSchedulerTest {
+
+    @AfterMethod
+    public void clearShard() {
+        System.clearProperty("shard");
+    }
+
+    @Test
+    public void longestClassGoesToTheLeastLoadedBin() {
+        List<List<DurationScheduler.TestClass>> bins = DurationScheduler.pack(classes(8, 7, 6, 5, 4), 2);
+        Assert.assertEquals(names(bins.get(0)), List.of("C8", "C5", "C4"));
+        Assert.assertEquals(names(bins.get(1)), List.of("C7", "C6"));
+        Assert.assertEquals(DurationScheduler.makespan(bins), 17);
+        Assert.assertEquals(DurationScheduler.total(classes(8, 7, 6, 5, 4)), 30);
+    }
+
+    @Test
+    public void tiesGoToTheLowestBin() {
+        List<List<DurationScheduler.TestClass>> bins = DurationScheduler.pack(classes(5, 5, 5), 3);
+        for (int i = 0; i < 3; i++) Assert.assertEquals(bins.get(i).size(), 1);
+        Assert.assertEquals(names(bins.get(0)), List.of("C5"));
+    }
+
+    @Test
+    public void moreBinsThanClassesLeavesEmptyBins() {
+        List<List<DurationScheduler.TestClass>> bins = DurationScheduler.pack(classes(3), 2);
+        Assert.assertEquals(bins.get(0).size(), 1);
+        Assert.assertTrue(bins.get(1).isEmpty());
+        Assert.assertEquals(DurationScheduler.makespan(bins), 3);
+    }
+
+    @Test
+    public void shardPropertyIsParsed() {
+        Assert.assertNull(DurationScheduler.Shard.fromProperty());
+        System.setProperty("shard", " 2/3 ");
+        DurationScheduler.Shard shard = DurationScheduler.Shard.fromProperty();
+        Assert.assertEquals(shard.index, 2);
+        Assert.assertEquals(shard.count, 3);
+    }
+
+    @Test
+    public void invalidShardsAreRejected() {
+        for (String value : new String[] { "0/2", "3/2", "1", "a/b", "1/2/3" }) {
+            System.setProperty("shard", value);
+            Assert.assertThrows(IllegalArgumentException.class, DurationScheduler.Shard::fromProperty);
+        }
+    }
+
+    private static List<DurationScheduler.TestClass> classes(long... estimates) {
+        List<DurationScheduler.TestClass> classes = new ArrayList<>();
+        for (long estimate : estimates) {
+            DurationScheduler.TestClass c = new DurationScheduler.TestClass("C" + estimate);
+            c.estimateMillis = estimate;
+            classes.add(c);
+        }
+        return classes;
+    }
+
+    private static List<String> names(List<DurationScheduler.TestClass> bin) {
+        List<String> names = new ArrayList<>();
+        bin.forEach(c -> names.add(c.name));
+        return names;
+    }
+}
@@ -0,0 +1,239 @@
+package listeners;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.IExecutionListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utils.DriverFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+// Saves what the browser looked like when a test failed, under target/failure-artifacts/<test>-<time>/:
+//   screenshot.png, dom.html.gz, console.log.gz   the state at the moment of failure
+//   history-<n>.html.gz                           with -Dfailure.artifacts.history=n, the last n pages the
+//                                                 test left via driver.get, as it left them (oldest first)
+//   chromedriver.log.gz                           the tail of logs/chromedriver.log (local runs)
+// Only the browser round trips run on the test thread; compressing and writing happen on a small
+// bounded executor, so a failure doesn't hold up the next test. When that queue is full the
+// artifacts are dropped with a warning rather than blocking. Passing tests pay nothing unless the DOM
+// history is turned on, which costs one page-source read per driver.get.
+// Drivers are wrapped in DriverFactory; disable everything with -Dfailure.artifacts=false.
+public class FailureArtifactListener implements WebDriverListener, ITestListener, IExecutionListener {
+    public static final FailureArtifactListener INSTANCE = new FailureArtifactListener();
+
+    private static final Path DIR = Paths.get(System.getProperty("failure.artifacts.dir", "target/failure-artifacts"));
+    private static final int HISTORY = Integer.getInteger("failure.artifacts.history", 0);
+    private static final int DRIVER_LOG_TAIL_BYTES = 256 * 1024;
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+
+    // Keyed by the undecorated driver, which is what WebDriverListener callbacks receive.
+    private static final Map<WebDriver, Deque<Snapshot>> history = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<WebDriver, String> current = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 2, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(8), FailureArtifactListener::writerThread, (task, pool) ->
+            System.out.println("⚠️ Failure artifact writer is backed up; dropping one set of artifacts."));
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("failure.artifacts", "true"));
+    }
+
+    // ---- WebDriverListener -------------------------------------------------------------------
+
+    // The history snapshots a page when the test navigates away from it, so it holds what the test saw
+    // after the page rendered rather than the shell driver.get returns on the load event.
+    @Override
+    public void beforeGet(WebDriver driver, String url) {
+        if (HISTORY <= 0) return;
+        String leaving = current.remove(driver);
+        if (leaving == null) return;
+        String source;
+        try {
+            source = driver.getPageSource();
+        } catch (RuntimeException e) {
+            return;
+        }
+        Deque<Snapshot> ring;
+        synchronized (history) {
+            ring = history.computeIfAbsent(driver, d -> new ArrayDeque<>(HISTORY));
+        }
+        synchronized (ring) {
+            if (ring.size() == HISTORY) ring.removeFirst();
+            ring.addLast(new Snapshot(leaving, source.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        if (HISTORY > 0) current.put(driver, url);
+    }
+
+    // ---- ITestListener -----------------------------------------------------------------------
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        capture(result);
+    }
+
+    // Also called by RetryAnalyzer before it resets the page, so retried attempts keep their evidence.
+    public static void capture(ITestResult result) {
+        if (!enabled() || result.getAttribute("failureArtifacts") != null) return;
+        WebDriver driver = DriverFactory.leasedDriver();
+        if (driver == null) return;
+
+        List<Artifact> artifacts = new ArrayList<>();
+        if (driver instanceof TakesScreenshot) {
+            try {
+                artifacts.add(new Artifact("screenshot.png", ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES), false));
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ No screenshot: " + e.getMessage());
+            }
+        }
+        try {
+            artifacts.add(new Artifact("dom.html", driver.getPageSource().getBytes(StandardCharsets.UTF_8), true));
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ No DOM snapshot: " + e.getMessage());
+        }
+        try {
+            StringBuilder console = new StringBuilder();
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                console.append(entry).append('\n');
+            }
+            artifacts.add(new Artifact("console.log", console.toString().getBytes(StandardCharsets.UTF_8), true));
+        } catch (RuntimeException e) {
+            // Remote grids don't always expose browser logs.
+        }
+        List<Snapshot> recent = recent(driver);
+        for (int i = 0; i < recent.size(); i++) {
+            Snapshot s = recent.get(i);
+            byte[] page = ("<!-- " + s.url + " -->\n").getBytes(StandardCharsets.UTF_8);
+            artifacts.add(new Artifact("history-" + (i + 1) + ".html", concat(page, s.source), true));
+        }
+
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        Path dir = DIR.resolve(name + "-" + LocalDateTime.now().format(STAMP));
+        result.setAttribute("failureArtifacts", dir.toString());
+        writer.execute(() -> write(dir, artifacts));
+        System.out.println("📸 Failure artifacts for " + name + " → " + dir);
+    }
+
+    // ---- IExecutionListener ------------------------------------------------------------------
+
+    @Override
+    public void onExecutionFinish() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                System.out.println("⚠️ Failure artifacts still being written after 30s; some may be missing.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void write(Path dir, List<Artifact> artifacts) {
+        try {
+            Files.createDirectories(dir);
+            for (Artifact a : artifacts) {
+                if (a.compress) {
+                    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(dir.resolve(a.name + ".gz")))) {
+                        out.write(a.bytes);
+                    }
+                } else {
+                    Files.write(dir.resolve(a.name), a.bytes);
+                }
+            }
+            byte[] driverLog = tail(Paths.get("logs", "chromedriver.log"));
+            if (driverLog.length > 0) {
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(dir.resolve("chromedriver.log.gz")))) {
+                    out.write(driverLog);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write failure artifacts to " + dir + ": " + e.getMessage());
+        }
+    }
+
+    private static byte[] tail(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) return new byte[0];
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            long start = Math.max(0, raf.length() - DRIVER_LOG_TAIL_BYTES);
+            byte[] bytes = new byte[(int) (raf.length() - start)];
+            raf.seek(start);
+            raf.readFully(bytes);
+            return bytes;
+        }
+    }
+
+    private static List<Snapshot> recent(WebDriver driver) {
+        while (driver instanceof WrapsDriver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        Deque<Snapshot> ring = history.get(driver);
+        if (ring == null) return List.of();
+        synchronized (ring) {
+            return new ArrayList<>(ring);
+        }
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] result = new byte[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static Thread writerThread(Runnable r) {
+        Thread t = new Thread(r, "failure-artifacts-" + threadCount.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    }
+
+    private static class Snapshot {
+        final String url;
+        final byte[] source;
+
+        Snapshot(String url, byte[] source) {
+            this.url = url;
+            this.source = source;
+        }
+    }
+
+    private static class Artifact {
+        final String name;
+        final byte[] bytes;
+        final boolean compress;
+
+        Artifact(String name, byte[] bytes, boolean compress) {
+            this.name = name;
+            this.bytes = bytes;
+            this.compress = compress;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package listeners;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+// Sorts test failures into transient ones, which depend on timing and tend to pass when the step is
+// simply tried again, and real ones. Transient:
+//   - a stale element (the page re-rendered under the test)
+//   - a click intercepted by an overlay, toast or animation
+//   - a timeout waiting for a Toastify toast (it came and went between polls)
+// The whole cause chain is checked, since page objects wrap these in assertion failures.
+public class FailureClassifier {
+
+    public enum Kind { TRANSIENT, REAL }
+
+    public static Kind classify(Throwable failure) {
+        return reason(failure) != null ? Kind.TRANSIENT : Kind.REAL;
+    }
+
+    // A short description of why the failure counts as transient, or null for a real failure.
+    public static String reason(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof StaleElementReferenceException) return "stale element";
+            if (t instanceof ElementClickInterceptedException) return "click intercepted";
+            if (t instanceof TimeoutException && String.valueOf(t.getMessage()).contains("Toastify")) return "toast timeout";
+        }
+        return null;
+    }
+}
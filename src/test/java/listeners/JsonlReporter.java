@@ -0,0 +1,241 @@
+package listeners;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.testng.IConfigurationListener;
+import org.testng.IExecutionListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Streams one JSON line per event to target/test-events.jsonl (-Djsonl.file=...) as it happens, instead
+// of building reports in memory at the end of the run:
+//   suiteStart / suiteFinish             suite name, time, and the suite's pass/fail/skip counts at the end
+//   testStart / testResult               id, class, method, parameters, thread; results add status
+//                                        (PASS, FAIL, SKIP, RETRY for a retried attempt), duration,
+//                                        exception and the result's attributes
+//   configFailure                        failed @Before/@After methods, which explain later skips
+// Nothing is kept per test, so memory stays flat however many invocations a data-driven run has. A
+// testStart is flushed as it is written and everything else at least once a second (a daemon flusher
+// covers quiet stretches), so a crashed or hung run leaves its events behind; a testStart without a
+// testResult is the test that was running. Render a summary with utils.JsonlSummary.
+//
+// TestNG's own HTML/XML reporters can be turned off with -Dtestng.default.reporters=false (see pom.xml);
+// sharded merges and duration history still need their testng-results.xml. -Djsonl.reporter=false
+// turns this reporter off.
+public class JsonlReporter implements ITestListener, ISuiteListener, IConfigurationListener, IExecutionListener {
+    private static final int MAX_TEXT = 1000;
+    private static final Json JSON = new Json();
+    private static final AtomicLong ids = new AtomicLong();
+
+    private static Writer writer;
+    private static ScheduledExecutorService flusher;
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("jsonl.reporter", "true"));
+    }
+
+    public static Path file() {
+        return Paths.get(System.getProperty("jsonl.file", "target/test-events.jsonl"));
+    }
+
+    @Override
+    public void onExecutionStart() {
+        if (!enabled()) return;
+        Path file = file();
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            synchronized (JsonlReporter.class) {
+                writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 64 * 1024);
+                flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "jsonl-flusher");
+                    t.setDaemon(true);
+                    return t;
+                });
+                flusher.scheduleWithFixedDelay(JsonlReporter::flush, 1, 1, TimeUnit.SECONDS);
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ JSONL reporter disabled, could not open " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        synchronized (JsonlReporter.class) {
+            if (writer == null) return;
+            flusher.shutdownNow();
+            try {
+                writer.close();
+                System.out.println("🧾 Test events written to " + file());
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not close " + file() + ": " + e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        Map<String, Object> event = event("suiteStart");
+        event.put("suite", suite.getName());
+        write(event, false);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        int passed = 0, failed = 0, skipped = 0;
+        for (ISuiteResult result : suite.getResults().values()) {
+            passed += result.getTestContext().getPassedTests().size();
+            failed += result.getTestContext().getFailedTests().size();
+            skipped += result.getTestContext().getSkippedTests().size();
+        }
+        Map<String, Object> event = event("suiteFinish");
+        event.put("suite", suite.getName());
+        event.put("passed", passed);
+        event.put("failed", failed);
+        event.put("skipped", skipped);
+        write(event, true);
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        result.setAttribute("jsonlId", ids.incrementAndGet());
+        // Flushed right away: if this test hangs or kills the JVM, its start is the line that says so.
+        write(describe("testStart", result), true);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finished(result, "PASS");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finished(result, "FAIL");
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        finished(result, "PASS");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finished(result, result.getAttribute("retry") != null ? "RETRY" : "SKIP");
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        Map<String, Object> event = describe("configFailure", result);
+        addThrowable(event, result);
+        write(event, true);
+    }
+
+    private void finished(ITestResult result, String status) {
+        Map<String, Object> event = describe("testResult", result);
+        event.put("status", status);
+        event.put("durationMs", result.getEndMillis() - result.getStartMillis());
+        addThrowable(event, result);
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (String name : result.getAttributeNames()) {
+            if (!name.equals("jsonlId")) attributes.put(name, result.getAttribute(name));
+        }
+        if (!attributes.isEmpty()) event.put("attributes", attributes);
+        write(event, false);
+    }
+
+    private static void addThrowable(Map<String, Object> event, ITestResult result) {
+        Throwable t = result.getThrowable();
+        if (t != null) {
+            event.put("exception", t.getClass().getName());
+            event.put("message", truncate(String.valueOf(t.getMessage())));
+        }
+    }
+
+    private static Map<String, Object> describe(String type, ITestResult result) {
+        Map<String, Object> event = event(type);
+        Object id = result.getAttribute("jsonlId");
+        if (id != null) event.put("id", id);
+        event.put("class", result.getTestClass().getName());
+        event.put("method", result.getMethod().getMethodName());
+        Object[] parameters = result.getParameters();
+        if (parameters != null && parameters.length > 0) {
+            List<String> values = new ArrayList<>();
+            for (Object p : parameters) values.add(truncate(String.valueOf(p)));
+            event.put("parameters", values);
+        }
+        event.put("thread", Thread.currentThread().getName());
+        return event;
+    }
+
+    private static Map<String, Object> event(String type) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("event", type);
+        event.put("ts", System.currentTimeMillis());
+        return event;
+    }
+
+    private static void write(Map<String, Object> event, boolean flush) {
+        if (!enabled()) return;
+        String line;
+        try {
+            line = toLine(event);
+        } catch (RuntimeException e) {
+            // An attribute Json can't serialise; keep the event without them.
+            event.remove("attributes");
+            line = toLine(event);
+        }
+        synchronized (JsonlReporter.class) {
+            if (writer == null) return;
+            try {
+                writer.write(line);
+                writer.write('\n');
+                if (flush) writer.flush();
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not write to " + file() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static void flush() {
+        synchronized (JsonlReporter.class) {
+            if (writer == null) return;
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not flush " + file() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static String toLine(Map<String, Object> event) {
+        StringBuilder line = new StringBuilder();
+        try (JsonOutput out = JSON.newOutput(line)) {
+            out.setPrettyPrint(false);
+            out.write(event);
+        }
+        return line.toString();
+    }
+
+    private static String truncate(String text) {
+        return text.length() <= MAX_TEXT ? text : text.substring(0, MAX_TEXT) + "…";
+    }
+}
@@ -0,0 +1,10 @@
+package listeners;
+
+import org.testng.ITestResult;
+
+// Implemented by test classes whose tests can be retried on the session they already have.
+// RetryAnalyzer calls recover() before retrying a transient failure; it should put the browser back
+// on a known page without logging in again. Throwing from it turns the retry down.
+public interface Recoverable {
+    void recover(ITestResult failed);
+}
@@ -0,0 +1,43 @@
+package listeners;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utils.DriverFactory;
+import utils.ResourceBlocker;
+
+// Reports, per test, how many requests and bytes -Dresource.blocking saved on the test's driver.
+// The numbers are printed and attached to the result as the "resourceBlocking" attribute.
+public class ResourceBlockingReporter implements ITestListener {
+    private static final ThreadLocal<long[]> atStart = new ThreadLocal<>();
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        atStart.set(ResourceBlocker.totals(DriverFactory.leasedDriver()));
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        report(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        report(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        atStart.remove();
+    }
+
+    private void report(ITestResult result) {
+        long[] start = atStart.get();
+        atStart.remove();
+        long[] now = ResourceBlocker.totals(DriverFactory.leasedDriver());
+        if (now == null) return;
+        long requests = now[0] - (start == null ? 0 : start[0]);
+        long bytes = now[1] - (start == null ? 0 : start[1]);
+        result.setAttribute("resourceBlocking", requests + " requests, " + bytes + " bytes");
+        System.out.printf("🚫 %s: avoided %d request(s), %.1f KB%n", result.getMethod().getMethodName(), requests, bytes / 1024.0);
+    }
+}
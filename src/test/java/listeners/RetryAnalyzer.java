@@ -0,0 +1,73 @@
+package listeners;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+// Retries transient failures (see FailureClassifier) in place: the test class resets the page through
+// Recoverable and TestNG runs the method again on the same browser session, so a flaky toast no
+// longer costs a rerun of testng-failed.xml with a new browser and login. Real failures, and tests
+// whose class is not Recoverable, fail straight away.
+//
+// Registered as a listener it attaches itself to every @Test that has no retry analyzer of its own.
+// -Dretry.max sets the retries per test (default 1); 0 turns retrying off.
+public class RetryAnalyzer implements IRetryAnalyzer, IAnnotationTransformer {
+    private static final Object NO_RETRY_ANALYZER = noRetryAnalyzer();
+
+    private int attempts;
+
+    static int maxRetries() {
+        return Integer.getInteger("retry.max", 1);
+    }
+
+    @Override
+    public boolean retry(ITestResult result) {
+        if (attempts >= maxRetries()) return false;
+
+        String reason = FailureClassifier.reason(result.getThrowable());
+        String name = result.getMethod().getMethodName();
+        if (reason == null) return false;
+        if (!(result.getInstance() instanceof Recoverable)) {
+            System.out.println("🔁 " + name + " failed (" + reason + ") but its class cannot recover in place; not retrying.");
+            return false;
+        }
+
+        // Recovery navigates away, so the failed attempt's artifacts have to be taken first.
+        FailureArtifactListener.capture(result);
+        try {
+            ((Recoverable) result.getInstance()).recover(result);
+        } catch (RuntimeException e) {
+            System.out.println("🔁 " + name + ": recovery failed, not retrying: " + e.getMessage());
+            return false;
+        }
+        attempts++;
+        result.setAttribute("retry", reason + " (attempt " + (attempts + 1) + ")");
+        System.out.println("🔁 Retrying " + name + " after " + reason + " (" + attempts + "/" + maxRetries() + ")");
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (maxRetries() <= 0) return;
+        Class<? extends IRetryAnalyzer> current = annotation.getRetryAnalyzerClass();
+        if (current == null || current == NO_RETRY_ANALYZER) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+
+    // @Test's own default for retryAnalyzer, read from the annotation rather than naming TestNG's
+    // internal placeholder class.
+    private static Object noRetryAnalyzer() {
+        try {
+            return Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("@Test has no retryAnalyzer attribute", e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package listeners;
+
+import org.openqa.selenium.json.Json;
+import org.testng.IExecutionListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import utils.BaselineComparator;
+import utils.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Writes one compact metrics document per run to target/perf/run-metrics.json:
+//   tests   per class#method: status, every invocation's duration, their p95, and the commands the
+//           test issued (count, total time; see CommandTimingListener)
+//   steps   command count and time per page-object method, summed over the run
+// A copy goes to the run history (-Dperf.history.dir, default perf-history/, last -Dperf.history.keep
+// runs, default 20) and the run is compared with it (see BaselineComparator). Here the comparison only
+// reports; the perf-gate profile fails the build on a regression. Disable with -Drun.metrics=false.
+public class RunMetricsListener implements ITestListener, IExecutionListener {
+    private static final Map<String, List<ITestResult>> results = new ConcurrentHashMap<>();
+    private static volatile long startedAt;
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("run.metrics", "true"));
+    }
+
+    @Override
+    public void onExecutionStart() {
+        startedAt = System.currentTimeMillis();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // Attempts that were retried are reported as skips; only the final attempt counts.
+        if (result.getAttribute("retry") == null) record(result);
+    }
+
+    private static void record(ITestResult result) {
+        String key = result.getTestClass().getName() + "#" + result.getMethod().getMethodName();
+        // Invocations of one method (data rows, invocationCount) can finish on different threads.
+        results.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(result);
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (!enabled() || results.isEmpty()) return;
+        String runId = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date(startedAt));
+        String json = new Json().toJson(document(runId));
+
+        Path file = Paths.get("target", "perf", "run-metrics.json");
+        Path history = Paths.get(System.getProperty("perf.history.dir", "perf-history"));
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, json, StandardCharsets.UTF_8);
+            Files.createDirectories(history);
+            Files.writeString(history.resolve("run-" + runId + ".json"), json, StandardCharsets.UTF_8);
+            prune(history, Integer.getInteger("perf.history.keep", 20));
+            System.out.println("📈 Run metrics written to " + file);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write run metrics: " + e.getMessage());
+            return;
+        }
+        try {
+            System.out.println(BaselineComparator.compare(file, history).table());
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ Baseline comparison skipped: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> document(String runId) {
+        Map<String, Object> tests = new TreeMap<>();
+        int passed = 0, failed = 0, skipped = 0;
+        for (Map.Entry<String, List<ITestResult>> entry : results.entrySet()) {
+            List<ITestResult> invocations = entry.getValue();
+            String status = "PASS";
+            List<Long> durations = new ArrayList<>();
+            for (ITestResult r : invocations) {
+                durations.add(r.getEndMillis() - r.getStartMillis());
+                if (r.getStatus() == ITestResult.FAILURE) status = "FAIL";
+                else if (r.getStatus() == ITestResult.SKIP && !status.equals("FAIL")) status = "SKIP";
+            }
+            if (status.equals("PASS")) passed++;
+            else if (status.equals("FAIL")) failed++;
+            else skipped++;
+
+            Map<String, Object> test = new LinkedHashMap<>();
+            test.put("status", status);
+            test.put("durationsMs", durations);
+            test.put("p95Ms", BaselineComparator.p95(durations));
+            ITestResult first = invocations.get(0);
+            Histogram commands = CommandTimingListener.forTest(
+                    first.getTestClass().getRealClass().getSimpleName() + "." + first.getMethod().getMethodName());
+            if (commands != null) {
+                test.put("commands", commands.count());
+                test.put("commandMs", commands.totalMicros() / 1000);
+            }
+            tests.put(entry.getKey(), test);
+        }
+
+        // "HobbyClubPage.postTextOnly → RemoteWebElement.click" etc., summed per page-object method.
+        Map<String, long[]> byStep = new TreeMap<>();
+        CommandTimingListener.byCaller().forEach((key, h) -> {
+            int arrow = key.indexOf(" → ");
+            long[] totals = byStep.computeIfAbsent(arrow < 0 ? key : key.substring(0, arrow), k -> new long[2]);
+            totals[0] += h.count();
+            totals[1] += h.totalMicros();
+        });
+        Map<String, Object> steps = new LinkedHashMap<>();
+        byStep.forEach((step, totals) -> steps.put(step, Map.of("commands", totals[0], "totalMs", totals[1] / 1000)));
+
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("runId", runId);
+        doc.put("startedAt", Instant.ofEpochMilli(startedAt).toString());
+        doc.put("durationMs", System.currentTimeMillis() - startedAt);
+        doc.put("totals", Map.of("tests", tests.size(), "passed", passed, "failed", failed, "skipped", skipped));
+        doc.put("tests", tests);
+        doc.put("steps", steps);
+        return doc;
+    }
+
+    private static void prune(Path history, int keep) throws IOException {
+        List<Path> runs;
+        try (Stream<Path> files = Files.list(history)) {
+            runs = files.filter(p -> p.getFileName().toString().matches("run-.*\\.json")).sorted().collect(Collectors.toList());
+        }
+        for (int i = 0; i < runs.size() - keep; i++) {
+            Files.deleteIfExists(runs.get(i));
+        }
+    }
+}
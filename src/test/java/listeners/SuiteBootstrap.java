@@ -0,0 +1,81 @@
+package listeners;
+
+import org.testng.IExecutionListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import utils.Config;
+import utils.DriverBootstrap;
+import utils.DriverFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Gets the expensive start-up work going before the first test needs it:
+//   execution start   chromedriver is resolved in the background (see DriverBootstrap)
+//   suite start       the suite mode's driver pool, sized to the suite's thread-count, starts its
+//                     browsers in the background while TestNG is still building the test plan and
+//                     running @BeforeClass
+// When the first test starts, the time since JVM start (the surefire fork, so Maven's own start-up is
+// not included) and since TestNG started is printed and written to target/perf/startup.json.
+// -Dbootstrap.prewarm=false leaves browser start-up to the first getDriver() call.
+public class SuiteBootstrap implements IExecutionListener, ISuiteListener, ITestListener {
+    private static final AtomicBoolean firstTest = new AtomicBoolean();
+    private static volatile long executionStart;
+
+    @Override
+    public void onExecutionStart() {
+        executionStart = System.currentTimeMillis();
+        DriverBootstrap.resolveInBackground();
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        XmlSuite xml = suite.getXmlSuite();
+        DriverFactory.suiteThreads(xml.getParallel() != null && xml.getParallel().isParallel() ? xml.getThreadCount() : 1);
+        if (!Boolean.parseBoolean(System.getProperty("bootstrap.prewarm", "true"))) return;
+        String suiteMode = suite.getParameter("suiteMode") == null ? "local" : suite.getParameter("suiteMode");
+        try {
+            // Before the browsers start: they read the base URL (resource blocking's first-party host),
+            // and @BeforeClass, which would otherwise set it, runs later.
+            Config.applySuiteMode(suiteMode);
+            DriverFactory.prewarm(suiteMode);
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ Browser pre-warm skipped: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (!firstTest.compareAndSet(false, true)) return;
+        long now = System.currentTimeMillis();
+        long sinceJvm = now - ManagementFactory.getRuntimeMXBean().getStartTime();
+        long sinceTestNg = executionStart == 0 ? -1 : now - executionStart;
+        // Remote runs never need chromedriver, so don't wait for it here.
+        DriverBootstrap.Resolution driver = DriverBootstrap.resolved();
+        String driverSource = driver == null ? "pending" : driver.source;
+        long driverMillis = driver == null ? -1 : driver.millis;
+
+        result.setAttribute("timeToFirstTestMs", sinceJvm);
+        System.out.printf("⏱️ Time to first test: %.1fs since JVM start, %.1fs since TestNG start (chromedriver via %s, %d ms)%n",
+                sinceJvm / 1000.0, sinceTestNg / 1000.0, driverSource, driverMillis);
+
+        Path file = Paths.get("target", "perf", "startup.json");
+        String json = String.format("{%n  \"firstTest\": \"%s\",%n  \"jvmStartToFirstTestMs\": %d,%n"
+                        + "  \"testngStartToFirstTestMs\": %d,%n  \"chromedriverSource\": \"%s\",%n  \"chromedriverResolveMs\": %d%n}%n",
+                result.getMethod().getQualifiedName(), sinceJvm, sinceTestNg, driverSource, driverMillis);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package load;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import pages.HobbyClubPage;
+import pages.LoginPage;
+import utils.Config;
+import utils.CsvExporter;
+import utils.DriverFactory;
+import utils.ExcelReader;
+import utils.FixtureServer;
+import utils.Histogram;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Synthetic users: N headless browsers each log in once, then run a weighted mix of the suite's own
+// page-object flows until the duration or iteration count is used up. Every step of every scenario is
+// timed; the report has throughput, error rate and latency percentiles per step, and is also written to
+// target/perf/load-steps.csv.
+//
+//   mvn -Pload verify -Dload.users=4 -Dload.duration=120                  against the embedded fixture
+//   mvn -Pload verify -Dload.users=4 -Dload.iterations=10 -DbaseUrl=https://staging.example
+//
+//   -Dload.users=2          concurrent browsers
+//   -Dload.duration=60      seconds each user keeps going (ignored when -Dload.iterations is set)
+//   -Dload.iterations=      scenarios per user
+//   -Dload.mix=post:3,like:2,comment:2,joinLeave:1   scenario weights
+//   -Dload.rampup=10        seconds over which the users start
+//   -Dload.think.ms=500     pause between scenarios
+// Without -DbaseUrl the users hit the embedded FixtureServer (use -Dfixture.latency.ms for realism).
+public class LoadRunner {
+    private final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+    private final Map<String, Scenario> scenarios = new LinkedHashMap<>();
+    private final String suiteMode;
+    private final String email;
+    private final String password;
+    private final int users;
+    private final long durationMillis;
+    private final int iterations;
+    private final long rampUpMillis;
+    private final long thinkMillis;
+    private final AtomicLong scenariosRun = new AtomicLong();
+    private final AtomicLong stepFailures = new AtomicLong();
+    private int totalWeight;
+
+    // One flow of the mix: a list of timed steps run on one user's page objects.
+    interface Scenario {
+        void run(User user, String tag);
+    }
+
+    LoadRunner(String suiteMode, String email, String password, int users, long durationMillis, int iterations,
+               long rampUpMillis, long thinkMillis) {
+        this.suiteMode = suiteMode;
+        this.email = email;
+        this.password = password;
+        this.users = users;
+        this.durationMillis = durationMillis;
+        this.iterations = iterations;
+        this.rampUpMillis = rampUpMillis;
+        this.thinkMillis = thinkMillis;
+
+        scenarios.put("post", (u, tag) -> {
+            u.step("open club", () -> openClub(u));
+            u.step("post text", () -> u.clubs.postTextOnly("LoadPost_" + tag));
+        });
+        scenarios.put("like", (u, tag) -> {
+            u.step("open club", () -> openClub(u));
+            u.step("seed post", () -> u.clubs.seedTextPost("LoadLike_" + tag));
+            u.step("like", () -> u.clubs.clickNewLikeIconForBuzz("LoadLike_" + tag));
+        });
+        scenarios.put("comment", (u, tag) -> {
+            u.step("open club", () -> openClub(u));
+            u.step("post + comment", () -> u.clubs.postBuzzAndComment("LoadComment_" + tag, "LoadReply_" + tag));
+        });
+        scenarios.put("joinLeave", (u, tag) -> {
+            u.step("open club", () -> openClub(u));
+            u.step("join + leave", u.clubs::verifyJoinAndLeaveFunctionality);
+        });
+    }
+
+    private static void openClub(User user) {
+        user.clubs.openHobbyClubsPage();
+        user.clubs.openFirstClub();
+    }
+
+    // Parses "name:weight,..." into the weighted mix; unknown names fail fast.
+    Map<String, Integer> mix(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (!scenarios.containsKey(parts[0])) {
+                throw new IllegalArgumentException("Unknown scenario '" + parts[0] + "', expected one of " + scenarios.keySet());
+            }
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) weights.put(parts[0], weight);
+        }
+        if (weights.isEmpty()) throw new IllegalArgumentException("Empty scenario mix: " + spec);
+        totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        return weights;
+    }
+
+    private String pick(Map<String, Integer> weights) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) return entry.getKey();
+        }
+        throw new IllegalStateException("Weights changed while picking");
+    }
+
+    void run(Map<String, Integer> weights) throws InterruptedException {
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            int id = i + 1;
+            long delay = users == 1 ? 0 : rampUpMillis * i / (users - 1);
+            pool.submit(() -> runUser(id, delay, weights));
+        }
+        pool.shutdown();
+        long limit = iterations > 0 ? Long.MAX_VALUE : durationMillis + rampUpMillis + TimeUnit.MINUTES.toMillis(5);
+        if (!pool.awaitTermination(limit, TimeUnit.MILLISECONDS)) {
+            System.out.println("⚠️ Users still running after " + limit + " ms; reporting what finished.");
+            pool.shutdownNow();
+        }
+        report(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void runUser(int id, long delayMillis, Map<String, Integer> weights) {
+        User user = null;
+        try {
+            Thread.sleep(delayMillis);
+            long deadline = System.currentTimeMillis() + durationMillis;
+            int done = 0;
+            while (iterations > 0 ? done < iterations : System.currentTimeMillis() < deadline) {
+                if (user == null) {
+                    try {
+                        user = login(id);
+                    } catch (RuntimeException | AssertionError e) {
+                        // Counted against "start browser" or "login"; the user tries again after the think
+                        // time. The attempt uses up an iteration so a site that rejects every login ends.
+                        done++;
+                        if (thinkMillis > 0) Thread.sleep(thinkMillis);
+                        continue;
+                    }
+                }
+                String name = pick(weights);
+                String tag = id + "_" + System.currentTimeMillis();
+                try {
+                    scenarios.get(name).run(user, tag);
+                } catch (NoSuchSessionException e) {
+                    System.out.println("⚠️ User " + id + " lost its browser; starting a new one.");
+                    user.quit();
+                    user = null;
+                } catch (RuntimeException | AssertionError e) {
+                    // Already counted against the step; the next scenario starts from the listing page.
+                }
+                scenariosRun.incrementAndGet();
+                done++;
+                if (thinkMillis > 0) Thread.sleep(thinkMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | AssertionError e) {
+            System.out.println("❌ User " + id + " stopped: " + String.valueOf(e.getMessage()).lines().findFirst().orElse(""));
+        } finally {
+            if (user != null) user.quit();
+        }
+    }
+
+    private User login(int id) {
+        User user = new User(time("start browser", () -> DriverFactory.createDriver(suiteMode)));
+        try {
+            user.step("login", () -> {
+                user.login.openLoginPage();
+                user.login.login(email, password);
+            });
+        } catch (RuntimeException | AssertionError e) {
+            user.quit();
+            throw e;
+        }
+        System.out.println("👤 User " + id + " logged in.");
+        return user;
+    }
+
+    // Times one step; a failure is recorded and rethrown so the rest of the scenario is skipped.
+    private <T> T time(String step, Supplier<T> action) {
+        StepStats stats = steps.computeIfAbsent(step, s -> new StepStats());
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            stats.record(System.nanoTime() - start, false);
+            return result;
+        } catch (RuntimeException | AssertionError e) {
+            stats.record(System.nanoTime() - start, true);
+            // Only the first few are printed; the report has the totals.
+            if (stepFailures.incrementAndGet() <= 10) {
+                System.out.println("⚠️ " + step + " failed: " + String.valueOf(e.getMessage()).lines().findFirst().orElse(""));
+            }
+            throw e;
+        }
+    }
+
+    class User {
+        final WebDriver driver;
+        final LoginPage login;
+        final HobbyClubPage clubs;
+
+        User(WebDriver driver) {
+            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            this.driver = driver;
+            this.login = new LoginPage(driver, wait);
+            this.clubs = new HobbyClubPage(driver, wait);
+        }
+
+        void step(String name, Runnable action) {
+            time(name, () -> {
+                action.run();
+                return null;
+            });
+        }
+
+        void quit() {
+            try {
+                driver.quit();
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    static class StepStats {
+        final Histogram latency = new Histogram();
+        final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos, boolean failed) {
+            latency.record(nanos / 1_000);
+            if (failed) errors.incrementAndGet();
+        }
+    }
+
+    private void report(long wallMillis) {
+        double seconds = Math.max(wallMillis, 1) / 1000.0;
+        String format = "%-16s %7s %7s %7s %8s %9s %9s %9s %9s%n";
+        System.out.printf("%n🏋️ Load run: %d user(s), %d scenario(s) in %.1fs against %s%n",
+                users, scenariosRun.get(), seconds, Config.baseUrl());
+        System.out.printf(format, "step", "count", "errors", "error%", "per min", "p50", "p95", "p99", "max");
+
+        Path csv = Paths.get("target", "perf", "load-steps.csv");
+        try (CsvExporter out = CsvExporter.open(csv, false,
+                "step", "count", "errors", "errorRate", "perMinute", "p50Ms", "p95Ms", "p99Ms", "maxMs")) {
+            List<String> names = new ArrayList<>(steps.keySet());
+            names.sort(null);
+            for (String name : names) {
+                StepStats s = steps.get(name);
+                long count = s.latency.count();
+                long errors = s.errors.get();
+                double errorRate = count == 0 ? 0 : 100.0 * errors / count;
+                double perMinute = count * 60 / seconds;
+                System.out.printf(format, name, count, errors, String.format("%.1f", errorRate),
+                        String.format("%.1f", perMinute), ms(s.latency.percentile(50)), ms(s.latency.percentile(95)),
+                        ms(s.latency.percentile(99)), ms(s.latency.max()));
+                out.write(name, String.valueOf(count), String.valueOf(errors), String.format("%.4f", errorRate / 100),
+                        String.format("%.2f", perMinute), String.valueOf(s.latency.percentile(50) / 1000),
+                        String.valueOf(s.latency.percentile(95) / 1000), String.valueOf(s.latency.percentile(99) / 1000),
+                        String.valueOf(s.latency.max() / 1000));
+            }
+            System.out.println("Step stats written to " + out.commit());
+        }
+    }
+
+    private static String ms(long micros) {
+        return String.format("%.0fms", micros / 1000.0);
+    }
+
+    public static void main(String[] args) throws Exception {
+        // A configured base URL means a real deployment; otherwise serve the fixture.
+        String suiteMode = System.getProperty("baseUrl") == null ? "fixture" : "local";
+        Config.applySuiteMode(suiteMode);
+        if (System.getProperty("headless") == null) System.setProperty("headless", "true");
+
+        Object[] credentials = ExcelReader.firstRow(ExcelReader.TEST_DATA, "LoginData");
+        LoadRunner runner = new LoadRunner(suiteMode, credentials[0].toString(), credentials[1].toString(),
+                Integer.getInteger("load.users", 2),
+                TimeUnit.SECONDS.toMillis(Long.getLong("load.duration", 60)),
+                Integer.getInteger("load.iterations", 0),
+                TimeUnit.SECONDS.toMillis(Long.getLong("load.rampup", 10)),
+                Long.getLong("load.think.ms", 500));
+        Map<String, Integer> weights = runner.mix(System.getProperty("load.mix", "post:3,like:2,comment:2,joinLeave:1"));
+        System.out.println("🏋️ Scenario mix " + weights + " on " + Config.baseUrl());
+        runner.run(weights);
+        // The fixture's HTTP dispatcher would keep exec:java waiting.
+        if (suiteMode.equals("fixture")) FixtureServer.startShared().stop();
+    }
+}
@@ -3,31 +3,84 @@ package pages;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
 import org.testng.Assert;
+import org.testng.asserts.SoftAssert;
+import utils.BuzzApiClient;
+import utils.Config;
+import utils.DomBatch;
+import utils.DriverFactory;
+import utils.ElementHandle;
+import utils.SessionStore;
+import utils.Waits;
+import utils.WebVitals;
+
 import java.io.File;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Year;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class HobbyClubPage {
 	private WebDriver driver;
 	private WebDriverWait wait;
+	private Waits waits;
+	// Set by openHobbyClubsPage and measured once the cards are wanted (see measureListing)
+	private WebVitals.Mark listingMark;
 
 	public HobbyClubPage(WebDriver driver, WebDriverWait wait) {
 		this.driver = driver;
 		this.wait = wait;
+		this.waits = new Waits(driver);
 	}
 
 	private By clubCardsLocator = By.xpath("//div[contains(@class,'HobbyCardComponent_hobbyCard')]");
+	private static final DomBatch clubCardFields = DomBatch.select("div[class*='HobbyCardComponent_hobbyCard']")
+			.field("name", ".inner_text_container p.p1")
+			.field("members", ".inner_text_container p:nth-of-type(2)")
+			.field("quote", ".HobbyCardComponent_descriptionText__DCzmn p b || .HobbyCardComponent_descriptionText__DCzmn p strong");
 
 	public void openHobbyClubsPage() {
-		driver.get("https://ac-react.advantageclub.co/pages/hobby_clubs");
+		listingMark = WebVitals.mark(driver);
+		driver.get(Config.url("/pages/hobby_clubs"));
+	}
+
+	// The cards are fetched and rendered after the load event, so LCP isn't known until they show. The
+	// listing is measured the first time the cards are needed: after the location popup, or when the
+	// first club is opened. Nothing waits for them here when vitals are off.
+	private void measureListing() {
+		WebVitals.Mark mark = listingMark;
+		listingMark = null;
+		if (mark == null) return;
+		try {
+			wait.until(ExpectedConditions.visibilityOfElementLocated(clubCardsLocator));
+		} catch (TimeoutException e) {
+			System.out.println("⚠️ No club cards visible; measuring the listing without them.");
+		}
+		WebVitals.measure(driver, "hobby-club-listing", mark);
 	}
 
 	public void selectCountryAndCityIfVisible(String country, String city) {
+		selectLocation(country, city);
+		measureListing();
+	}
+
+	private void selectLocation(String country, String city) {
 		try {
 			WebElement dropdown = wait.until(
 					ExpectedConditions.presenceOfElementLocated(By.cssSelector("select.p3.h-16.koreanNoTranslate")));
@@ -43,20 +96,26 @@ public class HobbyClubPage {
 	}
 
 	public void verifyAllClubCardsAndDetails() {
+		int workers = Integer.getInteger("club.verify.workers", 1);
+		if (workers > 1) {
+			verifyAllClubCardsAndDetails(workers);
+			return;
+		}
+
+		// Navigating back re-renders the listing, so every iteration clicks a card from the wait that
+		// follows it; a cached handle would be stale every time
 		List<WebElement> clubCards = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(clubCardsLocator));
-		System.out.println("🔍 Total clubs found: " + clubCards.size());
+		// Read every card's listing data in one round trip up front
+		List<ClubCard> listing = harvestClubCards();
+		System.out.println("🔍 Total clubs found: " + listing.size());
 
-		for (int i = 0; i < clubCards.size(); i++) {
-			// Refetch list each time to avoid StaleElementReferenceException
-			clubCards = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(clubCardsLocator));
+		for (int i = 0; i < listing.size(); i++) {
 			WebElement card = clubCards.get(i);
 
 			// Extract data from listing
-			String name = card.findElement(By.cssSelector(".inner_text_container p.p1")).getText().trim();
-			String memberText = card.findElement(By.cssSelector(".inner_text_container p:nth-of-type(2)")).getText()
-					.trim();
-			int memberCount = extractNumber(memberText);
-			String quote = extractQuote(card);
+			String name = listing.get(i).name;
+			int memberCount = listing.get(i).memberCount;
+			String quote = listing.get(i).quote;
 
 			System.out.println("📋 [Listing] → " + name + " | Members: " + memberCount + " | Quote: " + quote);
 
@@ -66,8 +125,10 @@ public class HobbyClubPage {
 			Assert.assertFalse(quote.isEmpty(), "❌ Quote missing for: " + name);
 
 			// Click card
+			WebVitals.Mark mark = WebVitals.mark(driver);
 			scrollAndClick1(card);
 			wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("div.flex.flex-col")));
+			WebVitals.measure(driver, "hobby-club-detail", mark);
 
 			// Banner check
 			List<WebElement> banners = driver.findElements(By.cssSelector("img.w-full"));
@@ -92,8 +153,194 @@ public class HobbyClubPage {
 
 			// Go back and wait for cards again
 			driver.navigate().back();
-			wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(clubCardsLocator));
+			clubCards = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(clubCardsLocator));
+		}
+	}
+
+	// Fan-out mode: harvest every card from the listing in one script call, then check the detail
+	// pages concurrently on this driver plus up to (workers - 1) spare drivers from the pool, which
+	// inherit this browser's session. All mismatches are collected and reported together.
+	public void verifyAllClubCardsAndDetails(int workers) {
+		wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(clubCardsLocator));
+		List<ClubCard> cards = harvestClubCards();
+		System.out.println("🔍 Total clubs found: " + cards.size());
+
+		String listingUrl = driver.getCurrentUrl();
+		SessionStore.State session = SessionStore.capture(driver);
+		List<WebDriver> extras = new ArrayList<>();
+		for (int i = 1; i < Math.min(workers, cards.size()); i++) {
+			WebDriver extra = DriverFactory.tryLeaseExtra();
+			if (extra == null) break;
+			extras.add(extra);
+		}
+		int wanted = Math.min(workers, cards.size());
+		if (extras.size() + 1 < wanted) {
+			System.out.println("⚠️ Club detail fan-out asked for " + wanted + " drivers but the pool had only "
+					+ (extras.size() + 1) + " free (driver.pool.size=" + DriverFactory.poolSize()
+					+ "); the checks will take longer. Raise -Ddriver.pool.size or lower -Dclub.verify.workers.");
+		}
+		System.out.println("🧵 Checking club details on " + (extras.size() + 1) + " driver(s)");
+
+		Queue<ClubCard> queue = new ConcurrentLinkedQueue<>(cards);
+		List<ClubCheck> checks = Collections.synchronizedList(new ArrayList<>());
+		// The cards each worker took off the queue, so a worker that dies is blamed on its own cards.
+		List<List<ClubCard>> claimed = new ArrayList<>();
+		Map<Integer, Throwable> failedWorkers = new HashMap<>();
+		ExecutorService pool = Executors.newFixedThreadPool(extras.size() + 1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			List<ClubCard> own = new ArrayList<>();
+			claimed.add(own);
+			futures.add(pool.submit(() -> drain(this, queue, checks, own)));
+			for (WebDriver extra : extras) {
+				List<ClubCard> mine = new ArrayList<>();
+				claimed.add(mine);
+				futures.add(pool.submit(() -> {
+					extra.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+					extra.get(listingUrl);
+					SessionStore.apply(extra, session);
+					extra.get(listingUrl);
+					drain(new HobbyClubPage(extra, new WebDriverWait(extra, Duration.ofSeconds(15))), queue, checks, mine);
+				}));
+			}
+			for (int w = 0; w < futures.size(); w++) {
+				try {
+					futures.get(w).get();
+				} catch (ExecutionException e) {
+					failedWorkers.put(w, e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException(e);
+				}
+			}
+		} finally {
+			pool.shutdownNow();
+			extras.forEach(DriverFactory::releaseExtra);
+		}
+
+		Set<Integer> checked = new HashSet<>();
+		checks.forEach(c -> checked.add(c.card.index));
+		failedWorkers.forEach((w, cause) -> {
+			for (ClubCard card : claimed.get(w)) {
+				if (checked.add(card.index)) checks.add(ClubCheck.failed(card, "❌ " + card.name + ": worker failed: " + cause));
+			}
+		});
+		for (ClubCard card : queue) {
+			if (checked.add(card.index)) checks.add(ClubCheck.failed(card, "❌ " + card.name + ": not checked, no worker left"));
+		}
+
+		SoftAssert softly = new SoftAssert();
+		checks.sort(Comparator.comparingInt(c -> c.card.index));
+		for (ClubCheck check : checks) {
+			for (String mismatch : check.mismatches()) {
+				softly.fail(mismatch);
+			}
+			if (check.mismatches().isEmpty()) {
+				System.out.println("✅ [Detail Match] → " + check.detailName + " | Members: " + check.detailMembers
+						+ " | Quote: " + check.detailQuote);
+			}
+		}
+		softly.assertAll();
+	}
+
+	private static void drain(HobbyClubPage page, Queue<ClubCard> queue, List<ClubCheck> checks, List<ClubCard> claimed) {
+		ClubCard card;
+		while ((card = queue.poll()) != null) {
+			claimed.add(card);
+			try {
+				checks.add(page.checkClubDetail(card));
+			} catch (RuntimeException e) {
+				checks.add(ClubCheck.failed(card, "❌ " + card.name + ": " + e.getMessage()));
+				// Get back to the listing so the next card starts from a known page.
+				page.openHobbyClubsPage();
+			}
+		}
+	}
+
+	private ClubCheck checkClubDetail(ClubCard card) {
+		List<WebElement> clubCards = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(clubCardsLocator));
+		scrollAndClick1(clubCards.get(card.index));
+		wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("div.flex.flex-col")));
+
+		ClubCheck check = new ClubCheck(card);
+		List<WebElement> banners = driver.findElements(By.cssSelector("img.w-full"));
+		check.bannerVisible = !banners.isEmpty() && banners.get(0).isDisplayed();
+		check.detailName = getTextOrEmpty1(
+				By.xpath("//div[@class='font-semibold' and not(contains(text(),'Points'))]"));
+		check.detailQuote = getDetailQuote();
+		WebElement memberDiv = driver.findElement(By.xpath("//div[p[text()='Members']]"));
+		check.detailMembers = extractNumber(memberDiv.findElement(By.xpath("./p[1]")).getText().trim());
+
+		driver.navigate().back();
+		wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(clubCardsLocator));
+		return check;
+	}
+
+	// Reads name, member count and quote of every listing card in a single round trip.
+	private List<ClubCard> harvestClubCards() {
+		return clubCardFields.extract(driver, r -> new ClubCard(r.index(), r.get("name"),
+				extractNumber(r.get("members")), r.get("quote")));
+	}
+
+	private static class ClubCard {
+		final int index;
+		final String name;
+		final int memberCount;
+		final String quote;
+
+		ClubCard(int index, String name, int memberCount, String quote) {
+			this.index = index;
+			this.name = name;
+			this.memberCount = memberCount;
+			this.quote = quote;
+		}
+	}
+
+	private static class ClubCheck {
+		final ClubCard card;
+		String detailName = "";
+		String detailQuote = "";
+		int detailMembers;
+		boolean bannerVisible;
+		String error;
+
+		ClubCheck(ClubCard card) {
+			this.card = card;
 		}
+
+		static ClubCheck failed(ClubCard card, String error) {
+			ClubCheck check = new ClubCheck(card);
+			check.error = error;
+			return check;
+		}
+
+		List<String> mismatches() {
+			List<String> problems = new ArrayList<>();
+			if (error != null) {
+				problems.add(error);
+				return problems;
+			}
+			String club = card.name.isEmpty() ? "card #" + card.index : card.name;
+			if (card.name.isEmpty()) problems.add("❌ Club name is empty for card #" + card.index);
+			if (card.memberCount <= 0) problems.add("❌ Member count invalid for: " + club);
+			if (card.quote.isEmpty()) problems.add("❌ Quote missing for: " + club);
+			if (!bannerVisible) problems.add("❌ Banner not visible for: " + club);
+			if (!detailName.equals(card.name))
+				problems.add("❌ Club name mismatch! listing='" + card.name + "' detail='" + detailName + "'");
+			if (!detailQuote.equals(card.quote))
+				problems.add("❌ Quote mismatch for " + club + "! listing='" + card.quote + "' detail='" + detailQuote + "'");
+			if (detailMembers != card.memberCount)
+				problems.add("❌ Member count mismatch for " + club + "! listing=" + card.memberCount + " detail=" + detailMembers);
+			return problems;
+		}
+	}
+
+	private void scrollToCenter(WebElement element) {
+		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", element);
+	}
+
+	private void jsClick(WebElement element) {
+		((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
 	}
 
 	private void scrollAndClick1(WebElement element) {
@@ -114,23 +361,13 @@ public class HobbyClubPage {
 	}
 
 	public void openFirstClub() {
+		measureListing();
 		List<WebElement> cards = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(clubCardsLocator));
 		WebElement first = cards.get(0);
+		WebVitals.Mark mark = WebVitals.mark(driver);
 		scrollAndClick1(first);
 		wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("div.flex.flex-col")));
-	}
-
-	private String extractQuote(WebElement card) {
-		try {
-			return card.findElement(By.cssSelector(".HobbyCardComponent_descriptionText__DCzmn p b")).getText().trim();
-		} catch (NoSuchElementException e) {
-			try {
-				return card.findElement(By.cssSelector(".HobbyCardComponent_descriptionText__DCzmn p strong")).getText()
-						.trim();
-			} catch (NoSuchElementException ignore) {
-				return "";
-			}
-		}
+		WebVitals.measure(driver, "hobby-club-detail", mark);
 	}
 
 	private int extractNumber(String text) {
@@ -159,7 +396,7 @@ public class HobbyClubPage {
 		return "";
 	}
 
-	public void postTextOnly(String text) throws InterruptedException {
+	public void postTextOnly(String text) {
 		WebElement ta = wait.until(
 				ExpectedConditions.visibilityOfElementLocated(By.cssSelector("textarea.PostStatus_textArea__ySn55")));
 		ta.clear();
@@ -168,28 +405,46 @@ public class HobbyClubPage {
 		System.out.println("✅ Text-only posted: " + text);
 	}
 
-	private void clickPostButton() throws InterruptedException {
+	// Creates a post that a test only needs as a precondition. Goes through the buzz API with this
+	// browser's session and reloads the feed; falls back to posting through the UI when the API is
+	// disabled (-Dbuzz.api.seeding=false), the club id isn't in the URL or the request fails.
+	public void seedTextPost(String text) {
+		if (BuzzApiClient.enabled()) {
+			Optional<String> clubId = BuzzApiClient.clubIdFromUrl(driver.getCurrentUrl());
+			if (clubId.isPresent()) {
+				try {
+					BuzzApiClient.fromBrowser(driver).createPost(clubId.get(), text);
+					driver.navigate().refresh();
+					wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath(
+							"//div[contains(@class,'Feed_newsFeedContainer__')][.//div[text()='" + text + "']]")));
+					System.out.println("✅ Text post seeded via API: " + text);
+					return;
+				} catch (RuntimeException e) {
+					System.out.println("⚠️ API seeding failed (" + e.getMessage() + "); posting through the UI.");
+				}
+			}
+		}
+		postTextOnly(text);
+	}
+
+	private void clickPostButton() {
 		By btnLoc = By.xpath("//button[contains(text(),'Post')]");
 		WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(btnLoc));
 		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'})", btn);
 
-		for (int i = 0; i < 10; i++) {
-			if (btn.isEnabled()) {
-				try {
-					btn.click();
-					break;
-				} catch (ElementClickInterceptedException e) {
-					((JavascriptExecutor) driver).executeScript("arguments[0].click()", btn);
-					break;
-				}
-			}
-			Thread.sleep(500);
-			btn = driver.findElement(btnLoc);
+		btn = waits.withTimeout(Duration.ofSeconds(5)).until("post button enabled", d -> {
+			WebElement current = d.findElement(btnLoc);
+			return current.isEnabled() ? current : null;
+		});
+		try {
+			btn.click();
+		} catch (ElementClickInterceptedException e) {
+			((JavascriptExecutor) driver).executeScript("arguments[0].click()", btn);
 		}
-		Thread.sleep(2000); // wait for buzz to post
+		waits.settle(); // wait for buzz to post
 	}
 
-	public void postMediaOnly(String path) throws InterruptedException {
+	public void postMediaOnly(String path) {
 		File file = new File(path);
 		if (!file.exists()) {
 			System.out.println("⚠️ File not found: " + path);
@@ -202,7 +457,7 @@ public class HobbyClubPage {
 
 		System.out.println("📎 Uploaded: " + file.getName());
 
-		Thread.sleep(2000); // Give some time for upload preview to render
+		waits.settle(); // let the upload preview render
 		clickPostButton();
 
 		System.out.println("✅ Media-only posted: " + file.getName());
@@ -266,9 +521,9 @@ public class HobbyClubPage {
 			System.out.println("✅ Three-dot menu is present.");
 
 		} catch (TimeoutException e) {
-			Assert.fail("❌ Toast message did not appear in time.");
+			Assert.fail("❌ Toast message did not appear in time.", e);
 		} catch (Exception e) {
-			Assert.fail("❌ Post verification failed: " + e.getMessage());
+			Assert.fail("❌ Post verification failed: " + e.getMessage(), e);
 		}
 	}
 
@@ -288,7 +543,7 @@ public class HobbyClubPage {
 			clickPostButton(); // Existing method to click the Post button
 			System.out.println("✅ Audio posted with caption: " + caption);
 		} catch (Exception e) {
-			Assert.fail("❌ Failed to post audio: " + e.getMessage());
+			Assert.fail("❌ Failed to post audio: " + e.getMessage(), e);
 		}
 	}
 
@@ -353,9 +608,9 @@ public class HobbyClubPage {
 			System.out.println("✅ Audio player container verified.");
 
 		} catch (TimeoutException e) {
-			Assert.fail("❌ Timeout while verifying post: " + e.getMessage());
+			Assert.fail("❌ Timeout while verifying post: " + e.getMessage(), e);
 		} catch (Exception e) {
-			Assert.fail("❌ Unexpected error during post verification: " + e.getMessage());
+			Assert.fail("❌ Unexpected error during post verification: " + e.getMessage(), e);
 		}
 	}
 
@@ -424,9 +679,9 @@ public class HobbyClubPage {
 			System.out.println("🎥 Video source: " + videoSrc);
 
 		} catch (TimeoutException e) {
-			Assert.fail("❌ Timeout while verifying post: " + e.getMessage());
+			Assert.fail("❌ Timeout while verifying post: " + e.getMessage(), e);
 		} catch (Exception e) {
-			Assert.fail("❌ Unexpected error during post verification: " + e.getMessage());
+			Assert.fail("❌ Unexpected error during post verification: " + e.getMessage(), e);
 		}
 	}
 
@@ -445,8 +700,8 @@ public class HobbyClubPage {
 			fileInput.sendKeys(new File(videoPath).getAbsolutePath());
 			System.out.println("✅ Video uploaded: " + videoPath);
 
-			// Step 3: Wait for video to attach (small buffer)
-			Thread.sleep(2000); // optional, can be improved by checking media preview element
+			// Step 3: Wait for video to attach
+			waits.settle();
 
 			// Step 4: Click post button safely
 			WebElement postBtn = wait
@@ -464,43 +719,42 @@ public class HobbyClubPage {
 			}
 
 		} catch (Exception e) {
-			Assert.fail("❌ Failed to post video: " + e.getMessage());
+			Assert.fail("❌ Failed to post video: " + e.getMessage(), e);
 		}
 	}
 
-	public void clickNewLikeIconForBuzz(String buzzText) throws InterruptedException {
+	public void clickNewLikeIconForBuzz(String buzzText) {
 		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
 
 		// 1. Locate the post container by buzz text
-		WebElement postContainer = wait.until(ExpectedConditions.presenceOfElementLocated(
-				By.xpath("//div[contains(@class,'Feed_newsFeedContainer__')][.//div[text()='" + buzzText + "']]")));
+		By postLocator = By.xpath("//div[contains(@class,'Feed_newsFeedContainer__')][.//div[text()='" + buzzText + "']]");
+		ElementHandle postContainer = ElementHandle.of(driver, postLocator,
+				wait.until(ExpectedConditions.presenceOfElementLocated(postLocator)));
 
 		// 2. Scroll to the post
-		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", postContainer);
-		Thread.sleep(500);
+		postContainer.run(this::scrollToCenter);
+		waits.stable(postContainer.element());
 
 		// 3. Locate the like <img> by its src
-		WebElement likeIcon = postContainer.findElement(By.xpath(".//img[contains(@src,'fb2a529a83.svg')]"));
+		ElementHandle likeIcon = postContainer.child(By.xpath(".//img[contains(@src,'fb2a529a83.svg')]"));
 
 		// 4. Scroll the like icon into center view
-		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", likeIcon);
-		Thread.sleep(300);
+		likeIcon.run(this::scrollToCenter);
+		waits.stable(likeIcon.element());
 
 		// 5. Click via JavaScript to bypass overlays/intercepts
-		((JavascriptExecutor) driver).executeScript("arguments[0].click();", likeIcon);
+		likeIcon.run(this::jsClick);
 		System.out.println("✅ Like icon clicked (via JS).");
 
-		// 6. Optional: Wait to visually confirm and get count
-		Thread.sleep(1000);
-
-		WebElement countEl = likeIcon.findElement(By.xpath("./following-sibling::div"));
-		int count = Integer.parseInt(countEl.getText().trim());
+		// 6. Wait for the like count to register (the count re-renders when it changes)
+		ElementHandle countEl = likeIcon.child(By.xpath("./following-sibling::div"));
+		int count = readCountWhenPositive(countEl);
 		System.out.println("🧮 New Like count: " + count);
 
 		Assert.assertTrue(count > 0, "❌ Like count did not increase.");
 	}
 
-	public void postBuzzAndComment(String buzzText, String commentText) throws InterruptedException {
+	public void postBuzzAndComment(String buzzText, String commentText) {
 		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
 
 		// ✅ Step 1: Post a new buzz
@@ -508,17 +762,18 @@ public class HobbyClubPage {
 		verifyLastTextPost(buzzText);
 
 		// ✅ Step 2: Locate the new post by its text
-		WebElement post = wait.until(ExpectedConditions.presenceOfElementLocated(
-				By.xpath("//div[contains(@class,'Feed_newsFeedContainer__')][.//div[text()='" + buzzText + "']]")));
-		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", post);
-		Thread.sleep(500);
+		By postLocator = By.xpath("//div[contains(@class,'Feed_newsFeedContainer__')][.//div[text()='" + buzzText + "']]");
+		ElementHandle post = ElementHandle.of(driver, postLocator,
+				wait.until(ExpectedConditions.presenceOfElementLocated(postLocator)));
+		post.run(this::scrollToCenter);
+		waits.stable(post.element());
 
 		// ✅ Step 3: Click on comment icon
-		WebElement commentIcon = post.findElement(By.xpath(".//img[contains(@src,'5959793ac8.svg')]"));
-		((JavascriptExecutor) driver).executeScript("arguments[0].click();", commentIcon);
+		ElementHandle commentIcon = post.child(By.xpath(".//img[contains(@src,'5959793ac8.svg')]"));
+		commentIcon.run(this::jsClick);
 
 		// ✅ Step 4: Read comment count before
-		WebElement countElement = post.findElement(By.xpath(".//span[@class='p1']"));
+		ElementHandle countElement = post.child(By.xpath(".//span[@class='p1']"));
 		int beforeCount = Integer.parseInt(countElement.getText().trim());
 		System.out.println("💬 Comment count before: " + beforeCount);
 
@@ -526,7 +781,7 @@ public class HobbyClubPage {
 		WebElement input = wait
 				.until(ExpectedConditions.elementToBeClickable(By.xpath("//input[@placeholder='Comment here..']")));
 		input.sendKeys(commentText);
-		Thread.sleep(300);
+		waits.domQuiet();
 
 		// ✅ Step 6: Click Comment button
 		WebElement commentBtn = driver
@@ -535,26 +790,25 @@ public class HobbyClubPage {
 		System.out.println("✅ Comment posted.");
 
 		// ✅ Step 7: Wait and verify count increased
-		Thread.sleep(1500);
-		int afterCount = Integer.parseInt(countElement.getText().trim());
+		int afterCount = readCountWhenAbove(countElement, beforeCount);
 		System.out.println("🔄 Comment count after: " + afterCount);
 
 		Assert.assertTrue(afterCount > beforeCount, "❌ Comment count did not increase");
 	}
 
-	public void commentAndDeleteOnExistingPost(String postText, String commentText) throws InterruptedException {
+	public void commentAndDeleteOnExistingPost(String postText, String commentText) {
 		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
 
 		// 1. Scroll to the post
 		WebElement post = wait.until(ExpectedConditions.presenceOfElementLocated(
 				By.xpath("//div[contains(@class,'Feed_newsFeedContainer__')][.//div[text()='" + postText + "']]")));
 		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", post);
-		Thread.sleep(500);
+		waits.stable(post);
 
 		// 2. Click on comment icon
 		WebElement commentIcon = post.findElement(By.xpath(".//img[contains(@src,'5959793ac8.svg')]"));
 		((JavascriptExecutor) driver).executeScript("arguments[0].click();", commentIcon);
-		Thread.sleep(500);
+		waits.domQuiet();
 
 		// 3. Type comment and post
 		WebElement input = wait
@@ -565,7 +819,7 @@ public class HobbyClubPage {
 				.until(ExpectedConditions.elementToBeClickable(By.xpath("//span[contains(text(),'Comment')]")));
 		commentBtn.click();
 		System.out.println("✅ Comment posted: " + commentText);
-		Thread.sleep(2000);
+		waits.settle();
 
 		// 4. Locate the comment span
 		WebElement commentSpan = wait.until(ExpectedConditions
@@ -580,23 +834,24 @@ public class HobbyClubPage {
 		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", deleteIcon);
 		((JavascriptExecutor) driver).executeScript("arguments[0].click();", deleteIcon);
 		System.out.println("🗑️ Clicked delete icon for comment.");
-		Thread.sleep(1500);
+		waits.domQuiet();
 
 		// 6. Confirm popup click "Confirm"
 		WebElement confirmButton = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(
 				"//div[contains(@class,'ConfirmationPopup_confirmationPopupWrapper')]//button[@value='confirm']")));
 		confirmButton.click();
 		System.out.println("☑️ Confirmed deletion in popup.");
-		Thread.sleep(1500);
+		waits.settle();
 
 		// 7. Confirm it is deleted
-		List<WebElement> deletedCheck = driver
-				.findElements(By.xpath("//span[@class='p3' and text()='" + commentText + "']"));
-		Assert.assertTrue(deletedCheck.isEmpty(), "❌ Comment was not deleted");
+		boolean deleted = waits.until("comment removed", d -> (Boolean) ((JavascriptExecutor) d).executeScript(
+				"return !Array.from(document.querySelectorAll('span.p3')).some(s => s.textContent === arguments[0]);",
+				commentText));
+		Assert.assertTrue(deleted, "❌ Comment was not deleted");
 		System.out.println("✅ Comment deleted successfully.");
 	}
 
-	public void deleteBuzzPost(String postText) throws InterruptedException {
+	public void deleteBuzzPost(String postText) {
 		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
 
 		// 1. Locate the post by its exact text
@@ -605,7 +860,7 @@ public class HobbyClubPage {
 
 		// 2. Scroll to the post
 		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", postTextElement);
-		Thread.sleep(1000);
+		waits.stable(postTextElement);
 
 		// 3. Find the 3-dot SVG menu relative to this post
 		WebElement svg = postTextElement
@@ -616,21 +871,21 @@ public class HobbyClubPage {
 		((JavascriptExecutor) driver)
 				.executeScript("arguments[0].dispatchEvent(new MouseEvent('click', { bubbles: true }))", svg);
 		System.out.println("☰ Clicked 3-dot menu.");
-		Thread.sleep(1000);
+		waits.domQuiet();
 
 		// 5. Click "Delete"
 		WebElement deleteBtn = wait.until(ExpectedConditions
 				.elementToBeClickable(By.xpath("//div[contains(@class,'px-8') and normalize-space(text())='Delete']")));
 		deleteBtn.click();
 		System.out.println("🗑️ Clicked Delete option.");
-		Thread.sleep(1000);
+		waits.domQuiet();
 
 		// 6. Confirm deletion in popup
 		WebElement confirmBtn = wait
 				.until(ExpectedConditions.elementToBeClickable(By.xpath("//button[@value='confirm']")));
 		confirmBtn.click();
 		System.out.println("☑️ Confirmed deletion.");
-		Thread.sleep(1500);
+		waits.settle();
 
 		// 7. Ensure post no longer exists
 
@@ -680,10 +935,28 @@ public class HobbyClubPage {
 	    String digits = text.replaceAll("[^0-9]", "");
 	    return Integer.parseInt(digits);
 	}
+
+	// Polls a counter element until it exceeds `floor`; returns the last value read if it never does,
+	// so the caller's assertion reports the real count.
+	private int readCountWhenAbove(ElementHandle countElement, int floor) {
+	    int[] last = { floor };
+	    try {
+	        return waits.withTimeout(Duration.ofSeconds(5)).until("count above " + floor, d -> {
+	            last[0] = extractNumber(countElement.getText().trim());
+	            return last[0] > floor ? last[0] : null;
+	        });
+	    } catch (TimeoutException e) {
+	        return last[0];
+	    }
+	}
+
+	private int readCountWhenPositive(ElementHandle countElement) {
+	    return readCountWhenAbove(countElement, 0);
+	}
 	
 	
 	
-	public void verifyMemberCardVisible(String memberName) throws InterruptedException {
+	public void verifyMemberCardVisible(String memberName) {
 	    WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
 
 	    // 1. Click Members tab
@@ -791,7 +1064,7 @@ public class HobbyClubPage {
 	        Assert.assertTrue(toast.isDisplayed(), "❌ Toast not shown: " + expectedText);
 	        System.out.println("🔔 Toast verified: " + toast.getText());
 	    } catch (TimeoutException e) {
-	        Assert.fail("❌ Toast message not found: " + expectedText);
+	        Assert.fail("❌ Toast message not found: " + expectedText, e);
 	    }
 	}
 
@@ -2,6 +2,11 @@ package pages;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
+import utils.Config;
+import utils.SessionStore;
+
+import java.time.Duration;
+import java.util.Optional;
 
 public class LoginPage {
     private WebDriver driver;
@@ -17,7 +22,7 @@ public class LoginPage {
     }
 
     public void openLoginPage() {
-        driver.get("https://ac-react.advantageclub.co/signin");
+        driver.get(Config.url("/signin"));
     }
 
     public void login(String email, String password) {
@@ -26,4 +31,58 @@ public class LoginPage {
         driver.findElement(loginButton).click();
         wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("select")));
     }
+
+    // Restores a cached session for this account when one is still valid, otherwise logs in
+    // through the form and caches the resulting session for the next driver.
+    @SuppressWarnings("try") // the lock is only held, never referenced
+    public void loginWithCachedSession(String email, String password) {
+        if (restoreSession(email)) return;
+
+        try (SessionStore.Lock lock = SessionStore.lock(email, Config.baseUrl())) {
+            // Another worker may have logged in while we were waiting for the lock.
+            if (restoreSession(email)) return;
+
+            openLoginPage();
+            login(email, password);
+            SessionStore.save(email, Config.baseUrl(), SessionStore.capture(driver));
+            System.out.println("Logged in via form and cached session for " + email);
+        }
+    }
+
+    private boolean restoreSession(String email) {
+        Optional<SessionStore.State> cached = SessionStore.load(email, Config.baseUrl());
+        if (cached.isEmpty()) return false;
+
+        openLoginPage();
+        SessionStore.apply(driver, cached.get());
+        if (isSessionValid()) {
+            System.out.println("Restored cached session for " + email);
+            return true;
+        }
+
+        System.out.println("Cached session expired for " + email + " — falling back to form login.");
+        SessionStore.invalidate(email, Config.baseUrl());
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript("localStorage.clear(); sessionStorage.clear();");
+        return false;
+    }
+
+    // A valid session lands on the post-login page (location <select>); an expired one is bounced
+    // back to the sign-in form. Checked via JS so the implicit wait doesn't stall the probe.
+    private boolean isSessionValid() {
+        driver.get(Config.url("/"));
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        try {
+            String landing = new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> {
+                if (d.getCurrentUrl().contains("/signin")
+                        || (Boolean) js.executeScript("return !!document.querySelector(\"input[name='email']\")")) {
+                    return "signin";
+                }
+                return (Boolean) js.executeScript("return !!document.querySelector('select')") ? "app" : null;
+            });
+            return landing.equals("app");
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
 }
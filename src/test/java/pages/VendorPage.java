@@ -2,8 +2,15 @@ package pages;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
+import utils.Config;
+import utils.DomBatch;
+import utils.ScrollHarvester;
+import utils.Waits;
+import utils.WebVitals;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.regex.*;
 
 public class VendorPage {
@@ -13,44 +20,45 @@ public class VendorPage {
     public VendorPage(WebDriver driver, WebDriverWait wait) {
         this.driver = driver;
         this.wait = wait;
+        // The scroll harvester's idle check counts in-flight requests; register the counters before
+        // the listing loads so requests fired during page load are counted too.
+        Waits.instrument(driver);
     }
 
     private By countrySelect = By.cssSelector("select.p3.h-16.koreanNoTranslate");
     private By gurgaonOption = By.xpath("//div[contains(@class,'LocationPopUp_zoneName') and text()='Gurgaon']");
-    private By vendorContainer = By.cssSelector(".Vendor_vendorComponentContainer__X65Vl");
+    private static final Pattern dealId = Pattern.compile("/deals/(\\d+)");
+    private static final String vendorSelector = ".Vendor_vendorComponentContainer__X65Vl";
+    private static final DomBatch vendorCards = DomBatch.select(vendorSelector)
+            .field("href", "a[href*='/deals/']@href")
+            .field("name", "h2[class*='Vendor_vendorName']");
 
     public void navigateToVendorSection() {
-        driver.get("https://ac-react.advantageclub.co/pages/sections?section_id=3");
+        WebVitals.Mark mark = WebVitals.mark(driver);
+        driver.get(Config.url("/pages/sections?section_id=3"));
         wait.until(ExpectedConditions.elementToBeClickable(countrySelect));
+        WebVitals.measure(driver, "vendor-section", mark);
         new Select(driver.findElement(countrySelect)).selectByVisibleText("India");
         wait.until(ExpectedConditions.elementToBeClickable(gurgaonOption)).click();
     }
 
-    public List<String[]> extractVendors() throws InterruptedException {
+    public List<String[]> extractVendors() {
         List<String[]> vendorData = new ArrayList<>();
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        long lastHeight = (long) js.executeScript("return document.body.scrollHeight");
-
-        while (true) {
-            js.executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(1500);
-            long newHeight = (long) js.executeScript("return document.body.scrollHeight");
-            if (newHeight == lastHeight) break;
-            lastHeight = newHeight;
-        }
-
-        List<WebElement> containers = driver.findElements(vendorContainer);
-        for (WebElement container : containers) {
-            try {
-                String href = container.findElement(By.cssSelector("a[href*='/deals/']")).getAttribute("href");
-                String name = container.findElement(By.xpath(".//h2[contains(@class, 'Vendor_vendorName')]")).getText();
-                Matcher matcher = Pattern.compile("/deals/(\\d+)").matcher(href);
-                if (matcher.find()) {
-                    vendorData.add(new String[]{matcher.group(1), name});
-                }
-            } catch (Exception ignored) {}
-        }
-
+        extractVendors(vendorData::add);
         return vendorData;
     }
+
+    // Streams {id, name} pairs to the consumer as each scroll round renders new vendors, so callers can
+    // process them while the next page loads. Limits: -Dvendors.max.items, -Dvendors.max.seconds.
+    public ScrollHarvester.Result extractVendors(Consumer<String[]> sink) {
+        // Containers without a deal link or name are skipped.
+        return new ScrollHarvester(driver, vendorSelector, vendorCards)
+                .maxItems(Integer.getInteger("vendors.max.items", Integer.MAX_VALUE))
+                .maxTime(Duration.ofSeconds(Long.getLong("vendors.max.seconds", 120)))
+                .harvest(card -> {
+                    Matcher matcher = dealId.matcher(card.get("href"));
+                    if (!card.has("name") || !matcher.find()) return null;
+                    return new String[]{matcher.group(1), card.get("name")};
+                }, sink);
+    }
 }
@@ -1,17 +1,19 @@
 package testngsuite;
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.*;
 import org.testng.Assert;
 import org.testng.annotations.*;
 import pages.LoginPage;
 import pages.VendorPage;
+import utils.Config;
+import utils.CsvExporter;
+import utils.DriverFactory;
 import utils.ExcelReader;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import utils.Waits;
 
 import java.io.*;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.*;
@@ -20,31 +22,26 @@ public class VendorTests {
     WebDriver driver;
     WebDriverWait wait;
     VendorPage vendorPage;
-    List<String[]> vendorData = new ArrayList<>();
+    CsvExporter csv;
+    int vendorCount;
     String fileName;
 
+    @Parameters({ "suiteMode" })
     @BeforeClass
-    public void setUp() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--remote-allow-origins=*");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        driver = new ChromeDriver(options);
+    public void setUp(@org.testng.annotations.Optional("local") String suiteMode) {
+        Config.applySuiteMode(suiteMode);
+        driver = DriverFactory.getDriver(suiteMode);
 
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        driver.manage().window().maximize();
         wait = new WebDriverWait(driver, Duration.ofSeconds(15));
 
         // Read credentials
-        Object[][] data = ExcelReader.getData("src/test/resources/testdata.xlsx", "LoginData");
-        String email = data[0][0].toString();
-        String password = data[0][1].toString();
+        Object[] data = ExcelReader.firstRow(ExcelReader.TEST_DATA, "LoginData");
+        String email = data[0].toString();
+        String password = data[1].toString();
 
         LoginPage loginPage = new LoginPage(driver, wait);
-        loginPage.openLoginPage();
-        loginPage.login(email, password);
+        loginPage.loginWithCachedSession(email, password);
 
         vendorPage = new VendorPage(driver, wait);
     }
@@ -56,29 +53,28 @@ public class VendorTests {
 
     @Test(priority = 2, dependsOnMethods = {"testNavigateToVendors"})
     public void testExtractVendors() throws InterruptedException {
-        vendorData = vendorPage.extractVendors();
-        Assert.assertTrue(vendorData.size() > 0, "No vendor data extracted.");
+        // Rows are written to disk as each scroll round renders them; only the count stays in memory.
+        boolean gzip = Boolean.getBoolean("csv.gzip");
+        fileName = "vendors_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + (gzip ? ".csv.gz" : ".csv");
+        csv = CsvExporter.open(Paths.get(fileName), gzip, "Vendor ID", "Vendor Name");
+        vendorPage.extractVendors(vendor -> csv.write(vendor[0], vendor[1]));
+        vendorCount = csv.rows();
+        Assert.assertTrue(vendorCount > 0, "No vendor data extracted.");
     }
 
     @Test(priority = 3, dependsOnMethods = {"testExtractVendors"})
     public void testSaveCsv() throws IOException {
-        fileName = "vendors_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".csv";
-        FileWriter writer = new FileWriter(fileName);
-        writer.append("Vendor ID,Vendor Name\n");
-
-        for (String[] entry : vendorData) {
-            writer.append(entry[0]).append(",\"").append(entry[1].replace("\"", "\"\"")).append("\"\n");
-        }
-
-        writer.flush();
-        writer.close();
+        csv.commit();
 
         File file = new File(fileName);
         Assert.assertTrue(file.exists() && file.length() > 30, "CSV not created properly.");
+        System.out.println("Saved " + vendorCount + " vendors to " + fileName);
     }
 
     @AfterClass
     public void tearDown() {
-        if (driver != null) driver.quit();
+        if (csv != null) csv.close();
+        System.out.println(Waits.summary());
+        DriverFactory.releaseDriver();
     }
 }
@@ -0,0 +1,194 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Compares a run's metrics (target/perf/run-metrics.json, see RunMetricsListener) with a baseline:
+// per test, the median of its p95 duration over the last -Dperf.baseline.runs runs in the history
+// (default 5). Medians shrug off a single noisy run in either direction. Tests the history has never
+// seen passing fall back to the durations in -Dperf.baseline.bootstrap (default
+// test-output/testng-results.xml), so the gate works from the first run on.
+//
+// A test regresses when its p95 is more than -Dperf.threshold.pct (default 20) percent above the baseline
+// and at least -Dperf.threshold.ms (default 1000) slower, so short tests don't flag on jitter. Only
+// passing tests are compared; failures tend to end in timeouts.
+//
+//   mvn -Pperf-gate verify                         run the suite, then fail the build on a regression
+//   mvn test-compile exec:java -Dexec.mainClass=utils.BaselineComparator -Dexec.classpathScope=test \
+//       -Dexec.args="target/perf/run-metrics.json perf-history"     report only
+public class BaselineComparator {
+    private static final Json JSON = new Json();
+
+    public static class Row {
+        public final String test;
+        public final long baselineMs;
+        public final long currentMs;
+        public final String source;
+        public final boolean regressed;
+
+        Row(String test, long baselineMs, long currentMs, String source, boolean regressed) {
+            this.test = test;
+            this.baselineMs = baselineMs;
+            this.currentMs = currentMs;
+            this.source = source;
+            this.regressed = regressed;
+        }
+
+        double changePct() {
+            return baselineMs <= 0 ? 0 : 100.0 * (currentMs - baselineMs) / baselineMs;
+        }
+    }
+
+    public static class Result {
+        public final List<Row> rows;
+        public final int baselineRuns;
+
+        Result(List<Row> rows, int baselineRuns) {
+            this.rows = rows;
+            this.baselineRuns = baselineRuns;
+        }
+
+        public List<Row> regressions() {
+            return rows.stream().filter(r -> r.regressed).collect(Collectors.toList());
+        }
+
+        public String table() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("📈 p95 test durations vs baseline (median of %d earlier run(s); +%s%% and +%d ms to regress)%n",
+                    baselineRuns, thresholdPct(), thresholdMs()));
+            sb.append(String.format("  %-70s %10s %10s %8s  %s%n", "", "baseline", "current", "change", "baseline from"));
+            for (Row r : rows) {
+                sb.append(String.format("  %-70s %8dms %8dms %+7.0f%%  %s%s%n", r.test, r.baselineMs, r.currentMs,
+                        r.changePct(), r.source, r.regressed ? "   ❌ REGRESSED" : ""));
+            }
+            List<Row> regressed = regressions();
+            sb.append(regressed.isEmpty() ? "✅ No p95 regressions." : "❌ " + regressed.size() + " test(s) regressed.");
+            return sb.toString();
+        }
+    }
+
+    public static Result compare(Path current, Path historyDir) {
+        Map<String, Object> run = read(current);
+        List<Map<String, Object>> history = history(historyDir, String.valueOf(run.get("runId")),
+                Integer.getInteger("perf.baseline.runs", 5));
+        Map<String, Long> bootstrap = Collections.emptyMap();
+        Path bootstrapFile = Paths.get(System.getProperty("perf.baseline.bootstrap", "test-output/testng-results.xml"));
+        if (Files.isRegularFile(bootstrapFile)) {
+            bootstrap = TestHistory.load(List.of(bootstrapFile)).methods();
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> test : tests(run).entrySet()) {
+            if (!"PASS".equals(test.getValue().get("status"))) continue;
+            long currentMs = ((Number) test.getValue().get("p95Ms")).longValue();
+
+            List<Long> earlier = new ArrayList<>();
+            for (Map<String, Object> past : history) {
+                Map<String, Object> stats = tests(past).get(test.getKey());
+                if (stats != null && "PASS".equals(stats.get("status"))) earlier.add(((Number) stats.get("p95Ms")).longValue());
+            }
+            long baselineMs;
+            String source;
+            if (!earlier.isEmpty()) {
+                baselineMs = median(earlier);
+                source = earlier.size() + " run(s)";
+            } else if (bootstrap.containsKey(test.getKey())) {
+                baselineMs = bootstrap.get(test.getKey());
+                source = bootstrapFile.getFileName().toString();
+            } else {
+                continue;
+            }
+            boolean regressed = currentMs > baselineMs * (1 + thresholdPct() / 100.0)
+                    && currentMs - baselineMs >= thresholdMs();
+            rows.add(new Row(test.getKey(), baselineMs, currentMs, source, regressed));
+        }
+        return new Result(rows, history.size());
+    }
+
+    // Nearest-rank 95th percentile.
+    public static long p95(List<Long> values) {
+        if (values.isEmpty()) return 0;
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(0.95 * sorted.size()) - 1);
+    }
+
+    static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int mid = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(mid) : (sorted.get(mid - 1) + sorted.get(mid)) / 2;
+    }
+
+    private static double thresholdPct() {
+        return Double.parseDouble(System.getProperty("perf.threshold.pct", "20"));
+    }
+
+    private static long thresholdMs() {
+        return Long.getLong("perf.threshold.ms", 1000);
+    }
+
+    // The last `runs` history documents, oldest first, without the run being compared.
+    private static List<Map<String, Object>> history(Path dir, String currentRunId, int runs) {
+        if (!Files.isDirectory(dir)) return List.of();
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(p -> p.getFileName().toString().matches("run-.*\\.json")).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list run history " + dir, e);
+        }
+        List<Map<String, Object>> history = new ArrayList<>();
+        for (int i = files.size() - 1; i >= 0 && history.size() < runs; i--) {
+            try {
+                Map<String, Object> past = read(files.get(i));
+                if (!Objects.equals(currentRunId, String.valueOf(past.get("runId")))) history.add(0, past);
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ Ignoring unreadable run history " + files.get(i) + ": " + e.getMessage());
+            }
+        }
+        return history;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> tests(Map<String, Object> run) {
+        Object tests = run.get("tests");
+        return tests instanceof Map ? (Map<String, Map<String, Object>>) tests : new TreeMap<>();
+    }
+
+    private static Map<String, Object> read(Path file) {
+        try {
+            return JSON.toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read run metrics " + file, e);
+        }
+    }
+
+    // args: <run-metrics.json> [history dir]. -Dperf.gate=fail throws on a regression, failing the build.
+    public static void main(String[] args) {
+        Path current = Paths.get(args.length > 0 ? args[0] : "target/perf/run-metrics.json");
+        Path history = Paths.get(args.length > 1 ? args[1] : System.getProperty("perf.history.dir", "perf-history"));
+        if (!Files.isRegularFile(current)) {
+            throw new IllegalStateException("No run metrics at " + current + "; run the suite with listeners.RunMetricsListener first.");
+        }
+        Result result = compare(current, history);
+        System.out.println(result.table());
+        if ("fail".equalsIgnoreCase(System.getProperty("perf.gate", "report")) && !result.regressions().isEmpty()) {
+            throw new IllegalStateException("p95 duration regression in " + result.regressions().stream()
+                    .map(r -> r.test).collect(Collectors.joining(", ")));
+        }
+    }
+}
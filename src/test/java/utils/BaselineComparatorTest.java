@@ -0,0 +1,98 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class BaselineComparatorTest {
+    private static final String TEST = "testngsuite.HobbyClubTest#verifyAllClubCardsAndDetails";
+
+    @BeforeMethod
+    public void noBootstrap() {
+        System.setProperty("perf.baseline.bootstrap", "does-not-exist.xml");
+    }
+
+    @AfterMethod
+    public void clearProperties() {
+        System.clearProperty("perf.baseline.bootstrap");
+        System.clearProperty("perf.baseline.runs");
+    }
+
+    @Test
+    public void p95IsTheNearestRank() {
+        List<Long> values = new ArrayList<>();
+        for (long i = 20; i >= 1; i--) values.add(i);
+        Assert.assertEquals(BaselineComparator.p95(values), 19);
+        Assert.assertEquals(BaselineComparator.p95(List.of(7L)), 7);
+        Assert.assertEquals(BaselineComparator.p95(List.of(1L, 100L)), 100);
+        Assert.assertEquals(BaselineComparator.p95(List.of()), 0);
+    }
+
+    @Test
+    public void medianOfOddAndEvenCounts() {
+        Assert.assertEquals(BaselineComparator.median(List.of(9L, 1L, 5L)), 5);
+        Assert.assertEquals(BaselineComparator.median(List.of(4L, 1L, 10L, 6L)), 5);
+        Assert.assertEquals(BaselineComparator.median(List.of(3L)), 3);
+    }
+
+    @Test
+    public void regressionNeedsBothThePercentageAndTheAbsoluteThreshold() throws Exception {
+        Path history = Files.createTempDirectory("perf-history");
+        run(history.resolve("run-1.json"), "1", "PASS", 10_000);
+        run(history.resolve("run-2.json"), "2", "PASS", 10_400);
+        run(history.resolve("run-3.json"), "3", "PASS", 50_000);
+
+        Path slower = run(Files.createTempFile("current", ".json"), "4", "PASS", 13_000);
+        BaselineComparator.Result result = BaselineComparator.compare(slower, history);
+        Assert.assertEquals(result.baselineRuns, 3);
+        Assert.assertEquals(result.rows.size(), 1);
+        Assert.assertEquals(result.rows.get(0).baselineMs, 10_400, "median shrugs off the 50s outlier");
+        Assert.assertTrue(result.rows.get(0).regressed);
+
+        // +25%, but only 250 ms slower: jitter on a short test.
+        Path shortHistory = Files.createTempDirectory("perf-history");
+        run(shortHistory.resolve("run-1.json"), "1", "PASS", 1_000);
+        Path shortRun = run(Files.createTempFile("current", ".json"), "2", "PASS", 1_250);
+        Assert.assertTrue(BaselineComparator.compare(shortRun, shortHistory).regressions().isEmpty());
+    }
+
+    @Test
+    public void failedRunsAreLeftOutOfTheBaseline() throws Exception {
+        Path history = Files.createTempDirectory("perf-history");
+        run(history.resolve("run-1.json"), "1", "FAIL", 90_000);
+        run(history.resolve("run-2.json"), "2", "PASS", 10_000);
+        Path current = run(Files.createTempFile("current", ".json"), "3", "PASS", 10_500);
+        BaselineComparator.Result result = BaselineComparator.compare(current, history);
+        Assert.assertEquals(result.rows.get(0).baselineMs, 10_000);
+        Assert.assertEquals(result.rows.get(0).source, "1 run(s)");
+        Assert.assertTrue(result.regressions().isEmpty());
+    }
+
+    @Test
+    public void onlyTheLastRunsCount() throws Exception {
+        System.setProperty("perf.baseline.runs", "2");
+        Path history = Files.createTempDirectory("perf-history");
+        run(history.resolve("run-1.json"), "1", "PASS", 1_000);
+        run(history.resolve("run-2.json"), "2", "PASS", 20_000);
+        run(history.resolve("run-3.json"), "3", "PASS", 22_000);
+        Path current = run(Files.createTempFile("current", ".json"), "4", "PASS", 21_000);
+        BaselineComparator.Result result = BaselineComparator.compare(current, history);
+        Assert.assertEquals(result.baselineRuns, 2);
+        Assert.assertEquals(result.rows.get(0).baselineMs, 21_000);
+    }
+
+    private static Path run(Path file, String runId, String status, long p95) throws Exception {
+        Map<String, Object> doc = Map.of("runId", runId, "tests", Map.of(TEST, Map.of("status", status, "p95Ms", p95)));
+        Files.writeString(file, new Json().toJson(doc), StandardCharsets.UTF_8);
+        return file;
+    }
+}
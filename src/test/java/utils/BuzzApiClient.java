@@ -0,0 +1,98 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Seeds buzz posts over HTTP with the browser's session cookies, so tests that only need a post to
+// exist don't have to create it through the UI.
+// The default endpoint is the one the embedded fixture serves, so seeding is only on in fixture mode
+// unless the real site's endpoint is given explicitly (-Dbuzz.api.seeding=false turns it off anywhere):
+//   -Dbuzz.api.base       (default: Config.baseUrl())
+//   -Dbuzz.api.post       /api/clubs/{club}/buzz
+public class BuzzApiClient {
+    private static final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private static final Pattern CLUB_ID = Pattern.compile("[?&]id=(\\d+)|/hobby_club(?:_detail)?/(\\d+)");
+
+    private final String baseUrl;
+    private final String cookieHeader;
+    private final Json json = new Json();
+
+    public BuzzApiClient(String baseUrl, String cookieHeader) {
+        this.baseUrl = baseUrl.replaceAll("/+$", "");
+        this.cookieHeader = cookieHeader;
+    }
+
+    // Reuses the cookies of the browser's current session.
+    public static BuzzApiClient fromBrowser(WebDriver driver) {
+        String cookies = driver.manage().getCookies().stream()
+                .map(c -> c.getName() + "=" + c.getValue())
+                .collect(Collectors.joining("; "));
+        return new BuzzApiClient(System.getProperty("buzz.api.base", Config.baseUrl()), cookies);
+    }
+
+    public static boolean enabled() {
+        if (!Boolean.parseBoolean(System.getProperty("buzz.api.seeding", "true"))) return false;
+        return Config.fixture() || System.getProperty("buzz.api.post") != null;
+    }
+
+    public static Optional<String> clubIdFromUrl(String url) {
+        Matcher m = CLUB_ID.matcher(url);
+        if (!m.find()) return Optional.empty();
+        return Optional.of(m.group(1) != null ? m.group(1) : m.group(2));
+    }
+
+    // Returns the id of the new post.
+    public String createPost(String clubId, String text) {
+        Map<String, Object> post = post(path("buzz.api.post", "/api/clubs/{club}/buzz").replace("{club}", clubId),
+                Map.of("text", text));
+        return String.valueOf(idOf(post));
+    }
+
+    private Map<String, Object> post(String path, Map<String, Object> body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .header("Cookie", cookieHeader)
+                .POST(HttpRequest.BodyPublishers.ofString(json.toJson(body)))
+                .build();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("POST " + path + " returned " + response.statusCode() + ": " + response.body());
+            }
+            return json.toType(response.body(), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new IllegalStateException("POST " + path + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during POST " + path, e);
+        } catch (org.openqa.selenium.json.JsonException e) {
+            throw new IllegalStateException("POST " + path + " did not return JSON", e);
+        }
+    }
+
+    private static Object idOf(Map<String, Object> entity) {
+        Object id = entity.get("id");
+        if (id == null) throw new IllegalStateException("Response has no id: " + entity);
+        return id instanceof Number ? ((Number) id).longValue() : id;
+    }
+
+    private static String path(String property, String defaultPath) {
+        return System.getProperty(property, defaultPath);
+    }
+}
@@ -0,0 +1,39 @@
+package utils;
+
+// Environment the suite runs against. The base URL defaults to production and can be pointed
+// elsewhere with -DbaseUrl=...; suiteMode="fixture" points it at the embedded FixtureServer.
+public class Config {
+    public static final String DEFAULT_BASE_URL = "https://ac-react.advantageclub.co";
+
+    private static volatile String baseUrl = stripTrailingSlash(System.getProperty("baseUrl", DEFAULT_BASE_URL));
+    private static volatile boolean fixture;
+
+    public static String baseUrl() {
+        return baseUrl;
+    }
+
+    // True once suiteMode="fixture" has pointed the base URL at the embedded FixtureServer.
+    public static boolean fixture() {
+        return fixture;
+    }
+
+    public static void setBaseUrl(String url) {
+        baseUrl = stripTrailingSlash(url);
+    }
+
+    public static String url(String path) {
+        return baseUrl + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    // Prepares the environment for a TestNG suiteMode before any driver is leased.
+    public static void applySuiteMode(String suiteMode) {
+        if (suiteMode.equalsIgnoreCase("fixture")) {
+            setBaseUrl(FixtureServer.startShared().baseUrl());
+            fixture = true;
+        }
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
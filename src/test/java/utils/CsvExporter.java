@@ -0,0 +1,136 @@
+package utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+// Streams CSV rows to disk as they are produced, so memory stays flat however many rows there are.
+//  - RFC 4180: CRLF line endings; fields with commas, quotes or line breaks are quoted, quotes doubled
+//  - rows go to "<target>.part" and are flushed every -Dcsv.flush.rows rows (default 500) or second,
+//    so a crashed run leaves whole rows behind
+//  - commit() syncs and atomically renames the part file to the target; close() without commit()
+//    leaves the rows written so far in the part file
+//  - gzip output is sync-flushed, so flushed rows can be read back even before commit()
+//
+// Thread-safe, so several extractors (e.g. one per zone) can share one exporter.
+public class CsvExporter implements AutoCloseable {
+    private static final int FLUSH_ROWS = Integer.getInteger("csv.flush.rows", 500);
+    private static final long FLUSH_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final Path target;
+    private final Path part;
+    private final FileChannel channel;
+    private final GZIPOutputStream gzip;
+    private final Writer writer;
+    private int rows;
+    private int unflushed;
+    private long lastFlush = System.nanoTime();
+    private boolean closed;
+
+    private CsvExporter(Path target, boolean gzip) throws IOException {
+        this.target = target.toAbsolutePath();
+        this.part = this.target.resolveSibling(this.target.getFileName() + ".part");
+        Files.createDirectories(this.target.getParent());
+        this.channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        OutputStream out = Channels.newOutputStream(channel);
+        this.gzip = gzip ? new GZIPOutputStream(out, 64 * 1024, true) : null;
+        if (this.gzip != null) out = this.gzip;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public static CsvExporter open(Path target, boolean gzip, String... header) {
+        try {
+            CsvExporter exporter = new CsvExporter(target, gzip);
+            if (header.length > 0) exporter.writeLine(header);
+            return exporter;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open CSV export " + target, e);
+        }
+    }
+
+    public synchronized void write(String... fields) {
+        if (closed) throw new IllegalStateException("CSV export already closed: " + target);
+        try {
+            writeLine(fields);
+            rows++;
+            unflushed++;
+            if (unflushed >= FLUSH_ROWS || System.nanoTime() - lastFlush >= FLUSH_INTERVAL_NANOS) flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write CSV row to " + part, e);
+        }
+    }
+
+    // Data rows written so far (header excluded).
+    public synchronized int rows() {
+        return rows;
+    }
+
+    public Path target() {
+        return target;
+    }
+
+    // Flushes, syncs and moves the finished file into place. Returns the final path.
+    public synchronized Path commit() {
+        if (closed) throw new IllegalStateException("CSV export already closed: " + target);
+        try {
+            closed = true;
+            writer.flush();
+            if (gzip != null) gzip.finish();
+            channel.force(true);
+            writer.close();
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not commit CSV export " + target, e);
+        }
+    }
+
+    // Abandons an export that was never committed; the partial rows stay in the part file.
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            writer.close();
+            System.out.println("⚠️ CSV export not committed; " + rows + " row(s) left in " + part);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void writeLine(String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escape(fields[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private void flush() throws IOException {
+        writer.flush();
+        channel.force(false);
+        unflushed = 0;
+        lastFlush = System.nanoTime();
+    }
+
+    static String escape(String field) {
+        if (field == null) return "";
+        boolean quote = false;
+        for (int i = 0; i < field.length() && !quote; i++) {
+            char c = field.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        return quote ? '"' + field.replace("\"", "\"\"") + '"' : field;
+    }
+}
@@ -0,0 +1,57 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class CsvExporterTest {
+
+    @Test
+    public void plainFieldsAreLeftAlone() {
+        Assert.assertEquals(CsvExporter.escape("Gurgaon"), "Gurgaon");
+        Assert.assertEquals(CsvExporter.escape(""), "");
+        Assert.assertEquals(CsvExporter.escape(null), "");
+    }
+
+    @Test
+    public void fieldsWithSeparatorsQuotesOrLineBreaksAreQuoted() {
+        Assert.assertEquals(CsvExporter.escape("a,b"), "\"a,b\"");
+        Assert.assertEquals(CsvExporter.escape("say \"hi\""), "\"say \"\"hi\"\"\"");
+        Assert.assertEquals(CsvExporter.escape("two\nlines"), "\"two\nlines\"");
+        Assert.assertEquals(CsvExporter.escape("cr\r"), "\"cr\r\"");
+    }
+
+    @Test
+    public void commitMovesTheFinishedFileIntoPlace() throws Exception {
+        Path target = Files.createTempDirectory("csv").resolve("vendors.csv");
+        try (CsvExporter csv = CsvExporter.open(target, false, "id", "name")) {
+            csv.write("1", "Cafe, Bar");
+            csv.write("2", "Joe's \"Deli\"");
+            Assert.assertEquals(csv.rows(), 2);
+            csv.commit();
+        }
+        Assert.assertFalse(Files.exists(target.resolveSibling("vendors.csv.part")));
+        Assert.assertEquals(Files.readString(target, StandardCharsets.UTF_8),
+                "id,name\r\n1,\"Cafe, Bar\"\r\n2,\"Joe's \"\"Deli\"\"\"\r\n");
+    }
+
+    @Test
+    public void closeWithoutCommitLeavesThePartFile() throws Exception {
+        Path target = Files.createTempDirectory("csv").resolve("vendors.csv");
+        try (CsvExporter csv = CsvExporter.open(target, false, "id")) {
+            csv.write("1");
+        }
+        Assert.assertFalse(Files.exists(target));
+        Assert.assertEquals(Files.readString(target.resolveSibling("vendors.csv.part"), StandardCharsets.UTF_8), "id\r\n1\r\n");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void writingAfterCommitFails() throws Exception {
+        CsvExporter csv = CsvExporter.open(Files.createTempDirectory("csv").resolve("x.csv"), false);
+        csv.commit();
+        csv.write("late");
+    }
+}
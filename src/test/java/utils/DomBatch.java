@@ -0,0 +1,149 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Reads one record per matching container in a single executeScript call, instead of a
+// findElement + getText/getAttribute round trip per field per container.
+//
+// Field specs, resolved relative to each container:
+//   "h2.title"            innerText of the first match
+//   "a.link@href"         attribute (DOM property when there is one, so hrefs come back absolute)
+//   "@data-id"            attribute of the container itself
+//   "p b || p strong"     alternatives, first non-empty value wins
+// Specs are parsed here (see parse()), so a malformed one fails when the batch is built rather than
+// reading as empty in the browser.
+//
+// Usage:
+//   List<Vendor> vendors = DomBatch.select(".vendor")
+//           .field("name", "h2")
+//           .field("href", "a@href")
+//           .extract(driver, r -> new Vendor(r.get("name"), r.get("href")));
+public class DomBatch {
+    private static final String SCRIPT =
+            "const [containerSel, fields, from] = arguments;"
+            + "const read = (root, alternatives) => {"
+            + "  for (const [sel, attr] of alternatives) {"
+            + "    const el = sel ? root.querySelector(sel) : root;"
+            + "    if (!el) continue;"
+            + "    let v = attr ? (attr in el && typeof el[attr] !== 'object' ? el[attr] : el.getAttribute(attr)) : el.innerText;"
+            + "    if (v != null && String(v).trim() !== '') return String(v).trim();"
+            + "  }"
+            + "  return null;"
+            + "};"
+            + "const all = document.querySelectorAll(containerSel), rows = [];"
+            + "for (let i = from; i < all.length; i++) {"
+            + "  const row = {};"
+            + "  for (const [name, spec] of Object.entries(fields)) row[name] = read(all[i], spec);"
+            + "  rows.push(row);"
+            + "}"
+            + "return rows;";
+
+    private final String containerSelector;
+    private final Map<String, List<List<String>>> fields = new LinkedHashMap<>();
+
+    private DomBatch(String containerSelector) {
+        this.containerSelector = containerSelector;
+    }
+
+    public static DomBatch select(String containerSelector) {
+        return new DomBatch(containerSelector);
+    }
+
+    public DomBatch field(String name, String spec) {
+        fields.put(name, parse(spec));
+        return this;
+    }
+
+    // "sel@attr || sel2" → [[sel, attr], [sel2, null]]; an empty selector means the container itself.
+    static List<List<String>> parse(String spec) {
+        if (spec == null || spec.isBlank()) throw new IllegalArgumentException("Empty field spec");
+        List<List<String>> alternatives = new ArrayList<>();
+        for (String alt : spec.split("\\|\\|", -1)) {
+            String s = alt.trim();
+            if (s.isEmpty()) throw new IllegalArgumentException("Empty alternative in field spec '" + spec + "'");
+            int at = s.lastIndexOf('@');
+            String selector = at >= 0 ? s.substring(0, at).trim() : s;
+            String attribute = at >= 0 ? s.substring(at + 1).trim() : null;
+            if (attribute != null && attribute.isEmpty()) {
+                throw new IllegalArgumentException("Missing attribute after '@' in field spec '" + spec + "'");
+            }
+            alternatives.add(Arrays.asList(selector, attribute));
+        }
+        return alternatives;
+    }
+
+    public List<DomRecord> extract(WebDriver driver) {
+        return extract(driver, 0);
+    }
+
+    // Only containers from index `from` onwards (in document order) are read.
+    @SuppressWarnings("unchecked")
+    public List<DomRecord> extract(WebDriver driver, int from) {
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(SCRIPT, containerSelector, fields, from);
+        List<DomRecord> records = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, String> values = new LinkedHashMap<>();
+            rows.get(i).forEach((k, v) -> values.put(k, v == null ? null : v.toString()));
+            records.add(new DomRecord(from + i, values));
+        }
+        return records;
+    }
+
+    // Maps every record; a mapper returning null drops that record.
+    public <T> List<T> extract(WebDriver driver, Function<DomRecord, T> mapper) {
+        return extract(driver, 0, mapper);
+    }
+
+    public <T> List<T> extract(WebDriver driver, int from, Function<DomRecord, T> mapper) {
+        List<T> mapped = new ArrayList<>();
+        for (DomRecord record : extract(driver, from)) {
+            T value = mapper.apply(record);
+            if (value != null) mapped.add(value);
+        }
+        return mapped;
+    }
+
+    public static class DomRecord {
+        private final int index;
+        private final Map<String, String> values;
+
+        DomRecord(int index, Map<String, String> values) {
+            this.index = index;
+            this.values = Collections.unmodifiableMap(values);
+        }
+
+        // Position of the container among all matches in document order.
+        public int index() {
+            return index;
+        }
+
+        // Trimmed value, or "" when the selector matched nothing.
+        public String get(String field) {
+            String value = values.get(field);
+            return value == null ? "" : value;
+        }
+
+        public boolean has(String field) {
+            return values.get(field) != null;
+        }
+
+        public Map<String, String> values() {
+            return values;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + index + " " + values;
+        }
+    }
+}
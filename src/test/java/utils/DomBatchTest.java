@@ -0,0 +1,40 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class DomBatchTest {
+
+    @Test
+    public void selectorReadsInnerText() {
+        Assert.assertEquals(DomBatch.parse("h2.title"), List.of(Arrays.asList("h2.title", null)));
+    }
+
+    @Test
+    public void attributeFollowsTheLastAt() {
+        Assert.assertEquals(DomBatch.parse("a[href*='/deals/']@href"), List.of(Arrays.asList("a[href*='/deals/']", "href")));
+        Assert.assertEquals(DomBatch.parse(" a.link @ href "), List.of(Arrays.asList("a.link", "href")));
+    }
+
+    @Test
+    public void bareAttributeReadsTheContainer() {
+        Assert.assertEquals(DomBatch.parse("@data-id"), List.of(Arrays.asList("", "data-id")));
+    }
+
+    @Test
+    public void alternativesKeepTheirOrder() {
+        Assert.assertEquals(DomBatch.parse("p b || p strong||@title"), List.of(
+                Arrays.asList("p b", null), Arrays.asList("p strong", null), Arrays.asList("", "title")));
+    }
+
+    @Test
+    public void malformedSpecsAreRejected() {
+        for (String spec : new String[] { "", "  ", "p b ||", "|| p", "a@", "a@ || b" }) {
+            Assert.assertThrows(IllegalArgumentException.class, () -> DomBatch.parse(spec));
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> DomBatch.select(".card").field("name", "h2 ||"));
+    }
+}
@@ -0,0 +1,219 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Resolves the chromedriver binary once per JVM instead of calling WebDriverManager for every driver,
+// and remembers the result across runs so later runs, including offline ones, skip resolution:
+//   1. -Dwebdriver.chrome.driver, when it points at a file
+//   2. the cached path (-Ddriver.cache.file, default ~/.cache/hobbyclub-tests/chromedriver.properties),
+//      if its fingerprint still matches: same file size/mtime, same OS/arch, and its major version
+//      still matching the installed Chrome's
+//   3. WebDriverManager (may download), whose result is cached for next time
+//   4. offline fallback: the newest chromedriver in ~/.cache/selenium whose major version matches
+// If all of that fails, Selenium Manager gets the last word when the driver starts.
+public class DriverBootstrap {
+    private static final Pattern VERSION = Pattern.compile("(\\d+)\\.\\d+[.\\d]*");
+    private static final Path CACHE_FILE = Paths.get(System.getProperty("driver.cache.file",
+            Paths.get(System.getProperty("user.home"), ".cache", "hobbyclub-tests", "chromedriver.properties").toString()));
+
+    private static volatile Resolution resolution;
+
+    // How the driver was found, for the startup report.
+    public static class Resolution {
+        public final String path;
+        public final String source;
+        public final long millis;
+
+        Resolution(String path, String source, long millis) {
+            this.path = path;
+            this.source = source;
+            this.millis = millis;
+        }
+
+        @Override
+        public String toString() {
+            return (path == null ? "(left to Selenium Manager)" : path) + " via " + source + " in " + millis + " ms";
+        }
+    }
+
+    // Resolves on first call and sets webdriver.chrome.driver; later calls return the same result.
+    public static synchronized Resolution chromedriver() {
+        if (resolution != null) return resolution;
+        long start = System.nanoTime();
+        Resolution found = resolve();
+        resolution = new Resolution(found.path, found.source, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (resolution.path != null) System.setProperty("webdriver.chrome.driver", resolution.path);
+        System.out.println("🧰 chromedriver: " + resolution);
+        return resolution;
+    }
+
+    // The result if resolution has finished, else null; never blocks.
+    public static Resolution resolved() {
+        return resolution;
+    }
+
+    // Starts resolution on a background thread so it overlaps with TestNG start-up.
+    public static void resolveInBackground() {
+        Thread t = new Thread(DriverBootstrap::chromedriver, "driver-bootstrap");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private static Resolution resolve() {
+        String configured = System.getProperty("webdriver.chrome.driver");
+        if (configured != null && Files.isRegularFile(Paths.get(configured))) return new Resolution(configured, "webdriver.chrome.driver", 0);
+
+        String browserMajor = browserMajorVersion();
+        Optional<String> cached = fromCache(browserMajor);
+        if (cached.isPresent()) return new Resolution(cached.get(), "cache", 0);
+
+        try {
+            WebDriverManager wdm = WebDriverManager.chromedriver();
+            wdm.setup();
+            String path = wdm.getDownloadedDriverPath();
+            if (path != null) {
+                saveCache(Paths.get(path), browserMajor);
+                return new Resolution(path, "WebDriverManager", 0);
+            }
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ WebDriverManager could not resolve chromedriver (offline?): " + e.getMessage());
+        }
+
+        Optional<Path> local = newestLocalDriver(browserMajor);
+        if (local.isPresent()) {
+            saveCache(local.get(), browserMajor);
+            return new Resolution(local.get().toString(), "local cache scan", 0);
+        }
+        return new Resolution(null, "nothing found", 0);
+    }
+
+    private static Optional<String> fromCache(String browserMajor) {
+        if (!Files.isRegularFile(CACHE_FILE)) return Optional.empty();
+        Properties cache = new Properties();
+        try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+            cache.load(in);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        String path = cache.getProperty("path");
+        if (path == null) return Optional.empty();
+        Path driver = Paths.get(path);
+        boolean valid = Files.isRegularFile(driver)
+                && Objects.equals(cache.getProperty("fingerprint"), fileFingerprint(driver))
+                && Objects.equals(cache.getProperty("platform"), platform())
+                // An unknown browser version can't invalidate the cache; a known, different one does.
+                && (browserMajor == null || browserMajor.equals(cache.getProperty("driverMajor")));
+        if (!valid) System.out.println("🧰 Cached chromedriver " + path + " is stale; resolving again.");
+        return valid ? Optional.of(path) : Optional.empty();
+    }
+
+    private static void saveCache(Path driver, String browserMajor) {
+        String driverMajor = majorVersion(run(driver.toString(), "--version"));
+        if (browserMajor != null && driverMajor != null && !browserMajor.equals(driverMajor)) return;
+        Properties cache = new Properties();
+        cache.setProperty("path", driver.toAbsolutePath().toString());
+        cache.setProperty("fingerprint", fileFingerprint(driver));
+        cache.setProperty("platform", platform());
+        if (driverMajor != null) cache.setProperty("driverMajor", driverMajor);
+        if (browserMajor != null) cache.setProperty("browserMajor", browserMajor);
+        try {
+            Files.createDirectories(CACHE_FILE.getParent());
+            try (OutputStream out = Files.newOutputStream(CACHE_FILE)) {
+                cache.store(out, "chromedriver resolved by DriverBootstrap");
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write driver cache " + CACHE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    // Drivers WebDriverManager and Selenium Manager downloaded earlier: ~/.cache/selenium/chromedriver/<os>/<version>/.
+    private static Optional<Path> newestLocalDriver(String browserMajor) {
+        Path root = Paths.get(System.getProperty("user.home"), ".cache", "selenium", "chromedriver");
+        if (!Files.isDirectory(root)) return Optional.empty();
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(p -> p.getFileName().toString().matches("chromedriver(\\.exe)?") && Files.isRegularFile(p))
+                    .filter(p -> browserMajor == null || browserMajor.equals(majorVersion(p.getParent().getFileName().toString())))
+                    .max(Comparator.comparing(p -> versionKey(p.getParent().getFileName().toString())));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String browserMajorVersion() {
+        try {
+            Optional<Path> browser = WebDriverManager.chromedriver().getBrowserPath();
+            return browser.map(p -> majorVersion(run(p.toString(), "--version"))).orElse(null);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String majorVersion(String text) {
+        if (text == null) return null;
+        Matcher m = VERSION.matcher(text);
+        return m.find() ? m.group(1) : null;
+    }
+
+    // Zero-padded so versions compare as strings: 120.0.6099.109 > 99.0.4844.51.
+    private static String versionKey(String version) {
+        StringBuilder key = new StringBuilder();
+        for (String part : version.split("\\.")) {
+            key.append(String.format("%08d", part.matches("\\d+") ? Long.parseLong(part) : 0));
+        }
+        return key.toString();
+    }
+
+    private static String fileFingerprint(Path file) {
+        try {
+            return Files.size(file) + "@" + Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static String platform() {
+        return System.getProperty("os.name") + "/" + System.getProperty("os.arch");
+    }
+
+    // Output goes to a file rather than a pipe, so a hung command can't block the read past the timeout.
+    private static String run(String... command) {
+        Path output = null;
+        try {
+            output = Files.createTempFile("driver-bootstrap", ".out");
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(output.toFile()).start();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return null;
+            }
+            return Files.readString(output, StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
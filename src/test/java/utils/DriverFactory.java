@@ -1,19 +1,231 @@
 package utils;
 
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import listeners.CommandTimingListener;
+import listeners.FailureArtifactListener;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 public class DriverFactory {
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+    private static final ThreadLocal<WebDriver> currentDriver = new ThreadLocal<>();
+    private static final ThreadLocal<DriverPool> currentPool = new ThreadLocal<>();
+    private static final String BUILD_NAME = "HobbyClubTest_" + System.currentTimeMillis();
+    private static volatile int suiteThreads = 1;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> pools.values().forEach(DriverPool::shutdown)));
+    }
+
     public static WebDriver createDriver() {
-        WebDriverManager.chromedriver().setup();
+        return createDriver("local");
+    }
+
+    public static WebDriver createDriver(String suiteMode) {
+        WebDriver driver;
+        if (suiteMode.equalsIgnoreCase("lambdatest")) {
+            driver = createLambdaTestDriver();
+        } else if (SharedBrowser.enabled()) {
+            driver = sharedBrowser(suiteMode).newSession();
+        } else {
+            // Fixture runs are meant to be fast and unattended, so they default to headless.
+            driver = createLocalDriver(suiteMode.equalsIgnoreCase("fixture"));
+        }
+        driver = instrument(driver);
+        attachDevTools(driver);
+        return driver;
+    }
+
+    // Per-target DevTools set-up: request interception, the web vitals observer and the wait counters.
+    private static void attachDevTools(WebDriver driver) {
+        ResourceBlocker.attachIfEnabled(driver);
+        WebVitals.installIfEnabled(driver);
+        Waits.instrument(driver);
+    }
+
+    // A shared-browser reset moves the session to a new target, so everything attached to the old one
+    // (CDP session, listeners, scripts registered for new documents) is set up again on the new one.
+    private static void resetSharedSession(String suiteMode, WebDriver driver) {
+        sharedBrowser(suiteMode).reset(driver);
+        Waits.forget(driver);
+        attachDevTools(driver);
+    }
+
+    // Times every command for the latency report (see CommandTimingListener) and keeps recent pages
+    // for failure artifacts (see FailureArtifactListener). The decorated driver keeps the original's
+    // interfaces (JavascriptExecutor, HasCdp, TakesScreenshot, ...).
+    private static WebDriver instrument(WebDriver driver) {
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (CommandTimingListener.enabled()) listeners.add(CommandTimingListener.INSTANCE);
+        if (FailureArtifactListener.enabled()) listeners.add(FailureArtifactListener.INSTANCE);
+        if (listeners.isEmpty()) return driver;
+        return new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+    }
+
+    // Leases a pooled driver for the calling thread. Calling it again on the same thread
+    // returns the same driver until releaseDriver() is called.
+    public static WebDriver getDriver(String suiteMode) {
+        WebDriver driver = currentDriver.get();
+        if (driver != null) return driver;
+
+        DriverPool pool = pool(suiteMode);
+        driver = pool.acquire();
+        currentDriver.set(driver);
+        currentPool.set(pool);
+        return driver;
+    }
+
+    // Creates the suite mode's pool, which starts its browsers in the background, without leasing one.
+    public static void prewarm(String suiteMode) {
+        pool(suiteMode);
+    }
+
+    private static DriverPool pool(String suiteMode) {
+        return pools.computeIfAbsent(suiteMode.toLowerCase(), mode -> {
+            DriverPool created = SharedBrowser.enabled() && !mode.equals("lambdatest")
+                    ? new DriverPool(() -> createDriver(mode), d -> resetSharedSession(mode, d), poolSize())
+                    : new DriverPool(() -> createDriver(mode), poolSize());
+            created.prewarm(Integer.getInteger("driver.pool.prewarm", created.size()));
+            return created;
+        });
+    }
+
+    public static WebDriver getDriver() {
+        WebDriver driver = currentDriver.get();
+        if (driver == null) throw new IllegalStateException("No driver leased on thread " + Thread.currentThread().getName());
+        return driver;
+    }
+
+    // The calling thread's leased driver, or null when it holds none (for listeners).
+    public static WebDriver leasedDriver() {
+        return currentDriver.get();
+    }
+
+    public static void releaseDriver() {
+        WebDriver driver = currentDriver.get();
+        DriverPool pool = currentPool.get();
+        currentDriver.remove();
+        currentPool.remove();
+        if (driver != null && pool != null) pool.release(driver);
+    }
+
+    // Borrows a spare driver from the calling thread's pool for helper work (e.g. fan-out checks)
+    // without binding it to any thread. Returns null when the pool has no spare capacity.
+    public static WebDriver tryLeaseExtra() {
+        DriverPool pool = currentPool.get();
+        return pool == null ? null : pool.tryAcquire();
+    }
+
+    public static void releaseExtra(WebDriver driver) {
+        DriverPool pool = currentPool.get();
+        if (pool != null) pool.release(driver);
+    }
+
+    // -Ddriver.pool.size, else one browser per worker thread of the running suite, so parallel classes
+    // don't queue for a lease, plus the spares a -Dclub.verify.workers fan-out borrows.
+    public static int poolSize() {
+        int fanOutSpares = Math.max(0, Integer.getInteger("club.verify.workers", 1) - 1);
+        return Integer.getInteger("driver.pool.size", suiteThreads + fanOutSpares);
+    }
+
+    // Called at suite start (see SuiteBootstrap) with the suite's thread-count when it runs in parallel.
+    public static void suiteThreads(int threads) {
+        suiteThreads = Math.max(1, threads);
+    }
+
+    private static WebDriver createLocalDriver(boolean headlessByDefault) {
+        ChromeOptions options = localOptions(headlessByDefault);
+        WebDriver driver = new ChromeDriver(options);
+        if (!isHeadless(headlessByDefault)) {
+            driver.manage().window().maximize();
+        }
+        return driver;
+    }
+
+    // -Ddriver.mode=contexts: every session is a browser context in one shared Chrome (see SharedBrowser).
+    private static SharedBrowser sharedBrowser(String suiteMode) {
+        return SharedBrowser.get(localOptions(suiteMode.equalsIgnoreCase("fixture")));
+    }
+
+    private static ChromeOptions localOptions(boolean headlessByDefault) {
+        DriverBootstrap.chromedriver();
+
+        new File("logs").mkdirs();
+        System.setProperty("webdriver.chrome.verboseLogging", "true");
+        System.setProperty("webdriver.chrome.logfile", "logs/chromedriver.log");
+
         ChromeOptions options = new ChromeOptions();
         options.addArguments("--remote-allow-origins=*");
         options.addArguments("--disable-dev-shm-usage");
         options.addArguments("--disable-gpu");
         options.addArguments("--no-sandbox");
         options.addArguments("--disable-extensions");
-        return new ChromeDriver(options);
+        // Browser console output for failure artifacts
+        LoggingPreferences logs = new LoggingPreferences();
+        logs.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logs);
+        if (isHeadless(headlessByDefault)) {
+            options.addArguments("--headless=new", "--window-size=1920,1080");
+        }
+        return options;
+    }
+
+    private static boolean isHeadless(boolean headlessByDefault) {
+        return System.getenv("CI") != null
+                || Boolean.parseBoolean(System.getProperty("headless", String.valueOf(headlessByDefault)));
+    }
+
+    private static WebDriver createLambdaTestDriver() {
+        String username = System.getenv("LT_USERNAME");
+        String accessKey = System.getenv("LT_ACCESS_KEY");
+
+        // Fallback credentials for local/dev
+        if (username == null || accessKey == null) {
+            username = "keshavs";
+            accessKey = "w7VX6i299beNSNd3PHgaepmemLtMpEbYS0ePnvJEV69Bmog1cN";
+        }
+
+        MutableCapabilities capabilities = new MutableCapabilities();
+        capabilities.setCapability("browserName", "Chrome");
+        capabilities.setCapability("browserVersion", "latest");
+
+        MutableCapabilities ltOptions = new MutableCapabilities();
+        ltOptions.setCapability("platformName", "Windows 11");
+        ltOptions.setCapability("project", "Hobby Club Automation");
+        ltOptions.setCapability("build", BUILD_NAME);
+        ltOptions.setCapability("name", "HobbyClubTest");
+        ltOptions.setCapability("selenium_version", "4.14.0");
+
+        // ✅ Turn on all logs
+        ltOptions.setCapability("console", "true");
+        ltOptions.setCapability("network", "true");
+        ltOptions.setCapability("visual", "true");
+        ltOptions.setCapability("seleniumLogs", "true");
+        ltOptions.setCapability("driverLogs", "true");
+
+        capabilities.setCapability("LT:Options", ltOptions);
+
+        try {
+            URI uri = new URI("https", username + ":" + accessKey, "hub.lambdatest.com", 443, "/wd/hub", null, null);
+            return new RemoteWebDriver(uri.toURL(), capabilities);
+        } catch (URISyntaxException | MalformedURLException e) {
+            throw new IllegalStateException("Invalid LambdaTest hub URL", e);
+        }
     }
 }
@@ -0,0 +1,168 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Fixed-size pool of browsers. Drivers are reset between leases instead of quit,
+// so a suite pays the browser start-up cost once per worker rather than once per class.
+public class DriverPool {
+    private final Supplier<WebDriver> factory;
+    private final Consumer<WebDriver> resetter;
+    private final int size;
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> all = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger created = new AtomicInteger();
+    private final ExecutorService warmer = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "driver-pool-warmer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public DriverPool(Supplier<WebDriver> factory, int size) {
+        this(factory, DriverPool::reset, size);
+    }
+
+    // `resetter` replaces the default reset for drivers that have a cheaper way back to a clean state.
+    public DriverPool(Supplier<WebDriver> factory, Consumer<WebDriver> resetter, int size) {
+        if (size < 1) throw new IllegalArgumentException("Pool size must be at least 1, got " + size);
+        this.factory = factory;
+        this.resetter = resetter;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Starts up to `count` browsers in the background so the first leases don't wait on Chrome start-up.
+    public void prewarm(int count) {
+        for (int i = 0; i < count; i++) {
+            if (!reserveSlot()) return;
+            warmer.submit(() -> {
+                try {
+                    idle.add(track(factory.get()));
+                } catch (RuntimeException e) {
+                    created.decrementAndGet();
+                    System.out.println("Pre-warm failed: " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    public WebDriver acquire() {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        while (true) {
+            WebDriver driver = tryAcquire();
+            if (driver != null) return driver;
+
+            // Every slot is leased or still warming up. Re-check for a free slot every second: a failed
+            // pre-warm or a discarded driver gives its slot back without anything entering the idle queue.
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) throw new IllegalStateException("No pooled driver became free within 5 minutes");
+            try {
+                driver = idle.poll(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a pooled driver", e);
+            }
+            if (driver != null) return driver;
+        }
+    }
+
+    // Non-blocking variant of acquire(): returns null when every slot is leased.
+    public WebDriver tryAcquire() {
+        WebDriver driver = idle.poll();
+        if (driver != null || !reserveSlot()) return driver;
+        try {
+            return track(factory.get());
+        } catch (RuntimeException e) {
+            created.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public void release(WebDriver driver) {
+        if (driver == null || !all.contains(driver)) return;
+        try {
+            resetter.accept(driver);
+            idle.add(driver);
+        } catch (RuntimeException e) {
+            // A browser that can't be reset is discarded; its slot is freed for a fresh one.
+            System.out.println("Discarding pooled driver after failed reset: " + e.getMessage());
+            discard(driver);
+        }
+    }
+
+    public void discard(WebDriver driver) {
+        if (all.remove(driver)) {
+            created.decrementAndGet();
+            idle.remove(driver);
+            quietly(driver::quit);
+        }
+    }
+
+    public void shutdown() {
+        warmer.shutdownNow();
+        for (WebDriver driver : new ArrayList<>(all)) {
+            all.remove(driver);
+            quietly(driver::quit);
+        }
+        idle.clear();
+        created.set(0);
+    }
+
+    // Closes extra tabs, clears cookies and web storage, and parks the browser on about:blank.
+    static void reset(WebDriver driver) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        String keep = handles.get(0);
+        for (String handle : handles.subList(1, handles.size())) {
+            driver.switchTo().window(handle);
+            driver.close();
+        }
+        driver.switchTo().window(keep);
+
+        quietly(() -> ((JavascriptExecutor) driver)
+                .executeScript("try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}"));
+        driver.manage().deleteAllCookies();
+        if (driver instanceof HasCdp) {
+            // deleteAllCookies only covers the current domain; CDP clears the whole cookie jar.
+            quietly(() -> ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of()));
+        }
+        driver.get("about:blank");
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = created.get();
+            if (current >= size) return false;
+            if (created.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    private WebDriver track(WebDriver driver) {
+        all.add(driver);
+        return driver;
+    }
+
+    private static void quietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException ignored) {
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// A WebElement that remembers how it was found: a locator, an optional match index and its parent
+// handle (or the driver / a plain element as root). The element is looked up once and reused; only
+// when an action on it throws StaleElementReferenceException is it found again (parents first, as
+// needed) and the action retried once. Page objects can hold on to handles across re-renders instead
+// of re-querying defensively before every use.
+//
+// Every action is counted: reuses of the cached element are round trips saved compared with finding
+// it again, less the stale cases, which pay for a failed call on top of the lookup; see summary().
+public class ElementHandle {
+    private static final AtomicLong uses = new AtomicLong();
+    private static final AtomicLong lookups = new AtomicLong();
+    private static final AtomicLong reResolved = new AtomicLong();
+
+    private final SearchContext root;
+    private final ElementHandle parent;
+    private final By locator;
+    private final int index;
+    private volatile WebElement cached;
+
+    private ElementHandle(SearchContext root, ElementHandle parent, By locator, int index, WebElement cached) {
+        this.root = root;
+        this.parent = parent;
+        this.locator = locator;
+        this.index = index;
+        this.cached = cached;
+    }
+
+    // First match of the locator under the root (a driver or an element); found on first use.
+    public static ElementHandle of(SearchContext root, By locator) {
+        return new ElementHandle(root, null, locator, -1, null);
+    }
+
+    // Wraps an element already found (e.g. by an explicit wait) with the locator that finds it again.
+    public static ElementHandle of(SearchContext root, By locator, WebElement found) {
+        return new ElementHandle(root, null, locator, -1, found);
+    }
+
+    // The index-th match of the locator, found on first use.
+    public static ElementHandle nth(SearchContext root, By locator, int index) {
+        return new ElementHandle(root, null, locator, index, null);
+    }
+
+    // One handle per current match, each seeded with its element, so a list is queried once.
+    public static List<ElementHandle> all(SearchContext root, By locator) {
+        List<WebElement> found = root.findElements(locator);
+        lookups.incrementAndGet();
+        List<ElementHandle> handles = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size(); i++) {
+            handles.add(new ElementHandle(root, null, locator, i, found.get(i)));
+        }
+        return handles;
+    }
+
+    // First match of the locator inside this element.
+    public ElementHandle child(By childLocator) {
+        return new ElementHandle(null, this, childLocator, -1, null);
+    }
+
+    public <T> T apply(Function<WebElement, T> action) {
+        uses.incrementAndGet();
+        WebElement element = cached;
+        if (element == null) {
+            element = resolve();
+        }
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException e) {
+            reResolved.incrementAndGet();
+            return action.apply(resolve());
+        }
+    }
+
+    public void run(Consumer<WebElement> action) {
+        apply(e -> {
+            action.accept(e);
+            return null;
+        });
+    }
+
+    public void click() {
+        run(WebElement::click);
+    }
+
+    public String getText() {
+        return apply(WebElement::getText);
+    }
+
+    public void sendKeys(CharSequence... keys) {
+        run(e -> e.sendKeys(keys));
+    }
+
+    public boolean isDisplayed() {
+        return apply(WebElement::isDisplayed);
+    }
+
+    // The current element without any staleness check, for APIs that need a raw WebElement.
+    public WebElement element() {
+        return apply(e -> e);
+    }
+
+    private WebElement resolve() {
+        lookups.incrementAndGet();
+        WebElement found = parent == null ? find(root) : parent.apply(this::find);
+        cached = found;
+        return found;
+    }
+
+    private WebElement find(SearchContext context) {
+        if (index < 0) return context.findElement(locator);
+        List<WebElement> matches = context.findElements(locator);
+        if (index >= matches.size()) {
+            throw new NoSuchElementException("Only " + matches.size() + " match(es) for " + locator + ", wanted #" + index);
+        }
+        return matches.get(index);
+    }
+
+    public static String summary() {
+        long used = uses.get();
+        long found = lookups.get();
+        long stale = reResolved.get();
+        // A stale use costs the failed call as well as the lookup.
+        return String.format("Element handles: %d use(s), %d lookup(s) (%d saved), %d re-resolved after going stale",
+                used, found, Math.max(0, used - found - stale), stale);
+    }
+
+    @Override
+    public String toString() {
+        return (parent == null ? "" : parent + " > ") + locator + (index >= 0 ? "[" + index + "]" : "");
+    }
+}
@@ -1,50 +1,262 @@
 package utils;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
 
-import java.io.*;
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+// Reads test data sheets with POI's streaming (SAX) parser instead of loading the workbook DOM.
+//  - rows(): lazy iterator fed by a background parser through a small bounded queue, so a
+//    data provider can start handing rows to tests before the sheet has been read
+//  - a sheet read in full by getData() is cached for the rest of the run, keyed by path, modification
+//    time and sheet name; sheets over -Dexcel.cache.max.rows (default 100000) are streamed every time.
+//    Streams that stop early (firstRow(), a closed iterator) are never cached.
+//  - the first row is the header and is skipped; values are strings formatted as before
+//    (whole numbers without decimals, dates via Date.toString(), formulas as their text)
 public class ExcelReader {
+    public static final String TEST_DATA = "src/test/resources/testdata.xlsx";
+
+    private static final int CACHE_MAX_ROWS = Integer.getInteger("excel.cache.max.rows", 100_000);
+    private static final Object[] END = new Object[0];
+    private static final Map<Key, List<Object[]>> cache = new ConcurrentHashMap<>();
 
     public static Object[][] getData(String filePath, String sheetName) {
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
+        List<Object[]> rows = new ArrayList<>();
+        try (RowIterator it = rows(filePath, sheetName)) {
+            it.forEachRemaining(rows::add);
+            // Cached here, on the caller's thread, once every row has been read.
+            if (it.key != null && rows.size() <= CACHE_MAX_ROWS) {
+                List<Object[]> copy = new ArrayList<>(rows.size());
+                for (Object[] row : rows) copy.add(row.clone());
+                cache.put(it.key, Collections.unmodifiableList(copy));
+            }
+        }
+        return rows.toArray(new Object[0][]);
+    }
 
-            Sheet sheet = workbook.getSheet(sheetName);
-            int rowCount = sheet.getPhysicalNumberOfRows();
-            int colCount = sheet.getRow(0).getPhysicalNumberOfCells();
+    // First data row only; stops parsing as soon as it has been read.
+    public static Object[] firstRow(String filePath, String sheetName) {
+        try (RowIterator rows = rows(filePath, sheetName)) {
+            if (!rows.hasNext()) throw new IllegalStateException("Sheet " + sheetName + " in " + filePath + " has no data rows");
+            return rows.next();
+        }
+    }
 
-            Object[][] data = new Object[rowCount - 1][colCount];
+    public static RowIterator rows(String filePath, String sheetName) {
+        File file = new File(filePath).getAbsoluteFile();
+        if (!file.isFile()) throw new RuntimeException("Error reading Excel file: " + filePath + " not found");
+        Key key = new Key(file.getPath(), file.lastModified(), sheetName);
+        List<Object[]> cached = cache.get(key);
+        if (cached != null) return new RowIterator(cached.iterator());
+        return new RowIterator(file, key);
+    }
 
-            for (int i = 1; i < rowCount; i++) {
-                Row row = sheet.getRow(i);
-                for (int j = 0; j < colCount; j++) {
-                    Cell cell = row.getCell(j);
-                    data[i - 1][j] = getCellValueAsString(cell);
+    public static class RowIterator implements Iterator<Object[]>, AutoCloseable {
+        private final Iterator<Object[]> cached;
+        private final BlockingQueue<Object[]> queue;
+        // Set for a fresh parse; null when rows come from the cache.
+        private final Key key;
+        private volatile boolean closed;
+        private volatile RuntimeException failure;
+        private Object[] next;
+
+        private RowIterator(Iterator<Object[]> cached) {
+            this.cached = cached;
+            this.queue = null;
+            this.key = null;
+        }
+
+        private RowIterator(File file, Key key) {
+            this.cached = null;
+            this.queue = new ArrayBlockingQueue<>(256);
+            this.key = key;
+            Thread parser = new Thread(() -> parse(file, key), "excel-reader-" + file.getName());
+            parser.setDaemon(true);
+            parser.start();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (cached != null) return cached.hasNext();
+            if (next == null) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while reading Excel rows", e);
                 }
             }
+            if (next == END) {
+                if (failure != null) throw failure;
+                return false;
+            }
+            return true;
+        }
 
-            return data;
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading Excel file: " + e.getMessage(), e);
+        @Override
+        public Object[] next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            if (cached != null) return cached.next().clone();
+            Object[] row = next;
+            next = null;
+            return row;
         }
-    }
 
-    private static String getCellValueAsString(Cell cell) {
-        if (cell == null) return "";
-        switch (cell.getCellType()) {
-            case STRING: return cell.getStringCellValue();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                } else {
-                    return String.valueOf((long) cell.getNumericCellValue());
+        // Stops the background parser when the caller does not need the remaining rows.
+        @Override
+        public void close() {
+            closed = true;
+            if (queue != null) queue.clear();
+        }
+
+        private void parse(File file, Key key) {
+            boolean complete = false;
+            OPCPackage pkg = null;
+            try {
+                pkg = OPCPackage.open(file, PackageAccess.READ);
+                XSSFReader reader = new XSSFReader(pkg);
+                XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+                while (sheets.hasNext()) {
+                    try (InputStream sheet = sheets.next()) {
+                        if (!sheets.getSheetName().equals(key.sheet)) continue;
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(),
+                                new ReadOnlySharedStringsTable(pkg), new RowCollector(), new LegacyFormatter(), true));
+                        parser.parse(new InputSource(sheet));
+                        complete = true;
+                        break;
+                    }
+                }
+                if (!complete) throw new RuntimeException("Sheet " + key.sheet + " not found in " + file);
+            } catch (Exception e) {
+                // After close() nothing is waiting for the rest, so a Stopped (or wrapped Stopped) is expected.
+                if (!closed) failure = e instanceof RuntimeException ? (RuntimeException) e
+                        : new RuntimeException("Error reading Excel file: " + e.getMessage(), e);
+            } finally {
+                // Read-only packages are released with revert(); close() would try to save.
+                if (pkg != null) pkg.revert();
+                try {
+                    publish(END);
+                } catch (Stopped ignored) {
+                }
+            }
+        }
+
+        private void publish(Object[] row) {
+            try {
+                if (closed) throw new Stopped();
+                while (!queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+                    if (closed) throw new Stopped();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new Stopped();
+            }
+        }
+
+        // Builds rows from SAX cell events; column count comes from the header row.
+        private class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+            private boolean header = true;
+            private int columns;
+            private String[] current;
+
+            @Override
+            public void startRow(int rowNum) {
+                current = header ? null : new String[columns];
+            }
+
+            @Override
+            public void endRow(int rowNum) {
+                if (header) {
+                    header = false;
+                    return;
                 }
-            case BOOLEAN: return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA: return cell.getCellFormula();
-            case BLANK: return "";
-            default: return "";
+                boolean empty = true;
+                for (int i = 0; i < current.length; i++) {
+                    if (current[i] == null) current[i] = "";
+                    else empty = false;
+                }
+                if (empty) return;
+                publish(current);
+            }
+
+            @Override
+            public void cell(String ref, String value, XSSFComment comment) {
+                int col = new CellReference(ref).getCol();
+                if (header) {
+                    // Header row: only its width matters.
+                    if (value != null && !value.isEmpty()) columns = col + 1;
+                    return;
+                }
+                if (col >= current.length) return;
+                // The streaming parser reports booleans as TRUE/FALSE; the DOM reader returned true/false.
+                current[col] = "TRUE".equals(value) || "FALSE".equals(value) ? value.toLowerCase() : value;
+            }
+        }
+    }
+
+    // Keeps the formatting the DOM based reader produced for numeric cells.
+    private static class LegacyFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getJavaDate(value, use1904Windowing).toString();
+            }
+            return String.valueOf((long) value);
+        }
+    }
+
+    private static class Stopped extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Stopped() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class Key {
+        final String path;
+        final long modified;
+        final String sheet;
+
+        Key(String path, long modified, String sheet) {
+            this.path = path;
+            this.modified = modified;
+            this.sheet = sheet;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return modified == k.modified && path.equals(k.path) && sheet.equals(k.sheet);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, modified, sheet);
         }
     }
 }
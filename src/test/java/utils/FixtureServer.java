@@ -0,0 +1,384 @@
+package utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Embedded stand-in for ac-react.advantageclub.co. Serves a small single-page replica from
+// src/test/resources/fixture (same class names and DOM shape the page objects' locators rely on)
+// plus an in-memory JSON API for login, clubs, buzz posts, comments, likes and vendors.
+//
+//   -Dfixture.port=8089         fixed port (default: ephemeral)
+//   -Dfixture.latency.ms=150    artificial delay on every API response, to mimic the real site
+//   -Dfixture.vendors=180       size of the infinite-scroll vendor list
+public class FixtureServer {
+    private static final Json JSON = new Json();
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final String SESSION_COOKIE = "ac_session";
+    private static FixtureServer shared;
+
+    private final HttpServer server;
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Map<String, Object>> clubs = new LinkedHashMap<>();
+    private final Map<Integer, List<Map<String, Object>>> buzz = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger(5000);
+    private final long latencyMs = Long.getLong("fixture.latency.ms", 0);
+    private final int vendorCount = Integer.getInteger("fixture.vendors", 180);
+
+    public FixtureServer(int port) throws IOException {
+        seed();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "fixture-server");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public static synchronized FixtureServer startShared() {
+        if (shared == null) {
+            try {
+                shared = new FixtureServer(Integer.getInteger("fixture.port", 0));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start fixture server", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop));
+            System.out.println("Fixture server running at " + shared.baseUrl());
+        }
+        return shared;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public static void main(String[] args) throws Exception {
+        FixtureServer server = new FixtureServer(args.length > 0 ? Integer.parseInt(args[0]) : 8089);
+        System.out.println("Fixture server running at " + server.baseUrl() + " (Ctrl+C to stop)");
+        Thread.currentThread().join();
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try {
+            String path = ex.getRequestURI().getPath();
+            if (path.startsWith("/api/")) {
+                if (latencyMs > 0) Thread.sleep(latencyMs);
+                api(ex, path);
+            } else if (path.startsWith("/static/")) {
+                resource(ex, "fixture" + path.substring("/static".length()));
+            } else if (path.startsWith("/media/")) {
+                media(ex, path.substring("/media/".length()));
+            } else if (path.equals("/signin")) {
+                resource(ex, "fixture/signin.html");
+            } else {
+                // Every other route is rendered client-side by app.js.
+                resource(ex, "fixture/app.html");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(ex, 503, "text/plain", new byte[0]);
+        } catch (RuntimeException e) {
+            send(ex, 500, "application/json", JSON.toJson(Map.of("error", String.valueOf(e.getMessage())))
+                    .getBytes(StandardCharsets.UTF_8));
+        } finally {
+            ex.close();
+        }
+    }
+
+    private void api(HttpExchange ex, String path) throws IOException {
+        String method = ex.getRequestMethod();
+        if (path.equals("/api/login") && method.equals("POST")) {
+            Map<String, Object> body = body(ex);
+            if (isBlank(body.get("email")) || isBlank(body.get("password"))) {
+                json(ex, 401, Map.of("message", "Invalid credentials"));
+                return;
+            }
+            String token = UUID.randomUUID().toString();
+            sessions.add(token);
+            ex.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=/");
+            json(ex, 200, Map.of("name", "Luke Cooper", "email", body.get("email")));
+            return;
+        }
+        if (!isAuthenticated(ex)) {
+            json(ex, 401, Map.of("message", "Unauthorized"));
+            return;
+        }
+
+        Matcher m;
+        if (path.equals("/api/me")) {
+            json(ex, 200, Map.of("name", "Luke Cooper"));
+        } else if (path.equals("/api/clubs")) {
+            synchronized (clubs) {
+                json(ex, 200, new ArrayList<>(clubs.values()));
+            }
+        } else if ((m = match("/api/clubs/(\\d+)", path)) != null) {
+            Map<String, Object> club = club(m);
+            synchronized (clubs) {
+                json(ex, club == null ? 404 : 200, club == null ? Map.of("message", "Not found") : club);
+            }
+        } else if ((m = match("/api/clubs/(\\d+)/(join|leave)", path)) != null && method.equals("POST")) {
+            Map<String, Object> club = club(m);
+            if (club == null) {
+                json(ex, 404, Map.of("message", "Not found"));
+                return;
+            }
+            synchronized (clubs) {
+                boolean join = m.group(2).equals("join");
+                if (join != Boolean.TRUE.equals(club.get("joined"))) {
+                    club.put("joined", join);
+                    club.put("members", ((Number) club.get("members")).intValue() + (join ? 1 : -1));
+                }
+                json(ex, 200, club);
+            }
+        } else if ((m = match("/api/clubs/(\\d+)/buzz", path)) != null) {
+            List<Map<String, Object>> posts = buzz.computeIfAbsent(Integer.parseInt(m.group(1)), k -> new ArrayList<>());
+            synchronized (posts) {
+                if (method.equals("POST")) {
+                    createPost(ex, posts);
+                } else {
+                    json(ex, 200, new ArrayList<>(posts));
+                }
+            }
+        } else if ((m = match("/api/buzz/(\\d+)", path)) != null && method.equals("DELETE")) {
+            boolean removed = withPost(Integer.parseInt(m.group(1)), (posts, post) -> posts.remove(post));
+            json(ex, removed ? 200 : 404, Map.of("deleted", removed));
+        } else if ((m = match("/api/buzz/(\\d+)/like", path)) != null && method.equals("POST")) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            withPost(Integer.parseInt(m.group(1)), (posts, post) -> {
+                post.put("likes", ((Number) post.get("likes")).intValue() + 1);
+                result.putAll(post);
+                return true;
+            });
+            json(ex, result.isEmpty() ? 404 : 200, result);
+        } else if ((m = match("/api/buzz/(\\d+)/comments", path)) != null && method.equals("POST")) {
+            String text = String.valueOf(body(ex).get("text"));
+            Map<String, Object> comment = new LinkedHashMap<>();
+            comment.put("id", ids.incrementAndGet());
+            comment.put("author", "You");
+            comment.put("text", text);
+            boolean found = withPost(Integer.parseInt(m.group(1)), (posts, post) -> {
+                comments(post).add(comment);
+                return true;
+            });
+            json(ex, found ? 200 : 404, comment);
+        } else if ((m = match("/api/comments/(\\d+)", path)) != null && method.equals("DELETE")) {
+            int id = Integer.parseInt(m.group(1));
+            boolean removed = false;
+            for (List<Map<String, Object>> posts : buzz.values()) {
+                synchronized (posts) {
+                    for (Map<String, Object> post : posts) {
+                        removed |= comments(post).removeIf(c -> ((Number) c.get("id")).intValue() == id);
+                    }
+                }
+            }
+            json(ex, removed ? 200 : 404, Map.of("deleted", removed));
+        } else if (path.equals("/api/vendors")) {
+            Map<String, String> query = query(ex.getRequestURI());
+            int offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+            int limit = Integer.parseInt(query.getOrDefault("limit", "24"));
+            List<Map<String, Object>> page = new ArrayList<>();
+            for (int i = offset; i < Math.min(vendorCount, offset + limit); i++) {
+                page.add(Map.of("id", 1001 + i, "name", "Vendor " + (i + 1) + (i % 7 == 0 ? ", \"Premium\"" : "")));
+            }
+            json(ex, 200, Map.of("total", vendorCount, "items", page));
+        } else {
+            json(ex, 404, Map.of("message", "No fixture route for " + method + " " + path));
+        }
+    }
+
+    private void createPost(HttpExchange ex, List<Map<String, Object>> posts) throws IOException {
+        Map<String, Object> body = body(ex);
+        String text = body.get("text") == null ? "" : String.valueOf(body.get("text")).trim();
+        Object media = body.get("media");
+        if (media == null && text.length() < 5) {
+            json(ex, 400, Map.of("message", "Minimum character limit is 5"));
+            return;
+        }
+        Map<String, Object> post = new LinkedHashMap<>();
+        post.put("id", ids.incrementAndGet());
+        post.put("author", "You");
+        post.put("text", text);
+        post.put("createdAt", System.currentTimeMillis());
+        post.put("likes", 0);
+        post.put("comments", new ArrayList<>());
+        if (media != null) post.put("media", media);
+        posts.add(0, post);
+        json(ex, 200, post);
+    }
+
+    private interface PostAction {
+        boolean apply(List<Map<String, Object>> posts, Map<String, Object> post);
+    }
+
+    private boolean withPost(int id, PostAction action) {
+        for (List<Map<String, Object>> posts : buzz.values()) {
+            synchronized (posts) {
+                for (Map<String, Object> post : posts) {
+                    if (((Number) post.get("id")).intValue() == id) return action.apply(posts, post);
+                }
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> comments(Map<String, Object> post) {
+        return (List<Map<String, Object>>) post.get("comments");
+    }
+
+    private Map<String, Object> club(Matcher m) {
+        synchronized (clubs) {
+            return clubs.get(Integer.parseInt(m.group(1)));
+        }
+    }
+
+    private boolean isAuthenticated(HttpExchange ex) {
+        List<String> cookies = ex.getRequestHeaders().get("Cookie");
+        if (cookies == null) return false;
+        for (String header : cookies) {
+            for (String part : header.split(";")) {
+                String[] kv = part.trim().split("=", 2);
+                if (kv.length == 2 && kv[0].equals(SESSION_COOKIE) && sessions.contains(kv[1])) return true;
+            }
+        }
+        return false;
+    }
+
+    private void seed() {
+        String[][] data = {
+                { "Photography Club", "\"A picture is worth a thousand words.\"" },
+                { "Book Club", "\"A reader lives a thousand lives before he dies.\"" },
+                { "Running Club", "\"Every mile begins with a single step.\"" },
+                { "Chess Club", "\"Every chess master was once a beginner.\"" },
+                { "Music Club", "\"Where words fail, music speaks.\"" },
+                { "Cooking Club", "\"Cooking is love made visible.\"" },
+        };
+        for (int i = 0; i < data.length; i++) {
+            int id = i + 1;
+            Map<String, Object> club = new LinkedHashMap<>();
+            club.put("id", id);
+            club.put("name", data[i][0]);
+            club.put("quote", data[i][1]);
+            club.put("members", 8 + i * 3);
+            club.put("points", 100 + i * 20);
+            club.put("joined", i % 2 == 0);
+            club.put("memberList", List.of(
+                    Map.of("id", 42, "name", "Luke Cooper"),
+                    Map.of("id", 43, "name", "Priya Sharma"),
+                    Map.of("id", 44, "name", "Arjun Mehta"),
+                    Map.of("id", 45, "name", "Emma Wilson")));
+            clubs.put(id, club);
+
+            List<Map<String, Object>> posts = new ArrayList<>();
+            Map<String, Object> post = new LinkedHashMap<>();
+            post.put("id", ids.incrementAndGet());
+            post.put("author", "Priya Sharma");
+            post.put("text", "Welcome to the " + data[i][0] + "!");
+            post.put("createdAt", System.currentTimeMillis() - 86_400_000L);
+            post.put("likes", 3);
+            post.put("comments", new ArrayList<>());
+            posts.add(post);
+            buzz.put(id, posts);
+        }
+    }
+
+    private void resource(HttpExchange ex, String name) throws IOException {
+        try (InputStream in = FixtureServer.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                send(ex, 404, "text/plain", ("Not found: " + name).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(ex, 200, contentType(name), in.readAllBytes());
+        }
+    }
+
+    // Uploaded media is never stored; posts reference the test resource of the same name.
+    private void media(HttpExchange ex, String name) throws IOException {
+        Path file = Paths.get("src/test/resources").resolve(Paths.get(name).getFileName().toString());
+        if (!Files.isRegularFile(file)) {
+            send(ex, 404, "text/plain", new byte[0]);
+            return;
+        }
+        send(ex, 200, contentType(name), Files.readAllBytes(file));
+    }
+
+    private static String contentType(String name) {
+        if (name.endsWith(".html")) return "text/html; charset=utf-8";
+        if (name.endsWith(".js")) return "application/javascript; charset=utf-8";
+        if (name.endsWith(".css")) return "text/css; charset=utf-8";
+        if (name.endsWith(".svg")) return "image/svg+xml";
+        if (name.endsWith(".jpg")) return "image/jpeg";
+        if (name.endsWith(".mp3")) return "audio/mpeg";
+        if (name.endsWith(".mp4")) return "video/mp4";
+        return "application/octet-stream";
+    }
+
+    private static Map<String, Object> body(HttpExchange ex) throws IOException {
+        String raw = new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        return raw.isBlank() ? new LinkedHashMap<>() : JSON.toType(raw, MAP_TYPE);
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (uri.getQuery() == null) return params;
+        for (String pair : uri.getQuery().split("&")) {
+            String[] kv = pair.split("=", 2);
+            params.put(kv[0], kv.length > 1 ? kv[1] : "");
+        }
+        return params;
+    }
+
+    private static Matcher match(String regex, String path) {
+        Matcher m = Pattern.compile(regex).matcher(path);
+        return m.matches() ? m : null;
+    }
+
+    private static boolean isBlank(Object value) {
+        return value == null || String.valueOf(value).isBlank();
+    }
+
+    private static void json(HttpExchange ex, int status, Object body) throws IOException {
+        send(ex, status, "application/json", JSON.toJson(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange ex, int status, String contentType, byte[] body) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", contentType);
+        ex.getResponseHeaders().set("Cache-Control", "no-store");
+        ex.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+public class FixtureServerTest {
+    private final HttpClient http = HttpClient.newHttpClient();
+    private FixtureServer server;
+    private String cookie;
+
+    @BeforeClass
+    public void start() throws Exception {
+        server = new FixtureServer(0);
+        HttpResponse<String> login = post("/api/login", "{\"email\":\"a@b.c\",\"password\":\"x\"}");
+        Assert.assertEquals(login.statusCode(), 200);
+        cookie = login.headers().firstValue("Set-Cookie").orElseThrow().split(";")[0];
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stop() {
+        if (server != null) server.stop();
+    }
+
+    @Test
+    public void joinAndLeaveUpdateTheMemberCount() throws Exception {
+        Map<String, Object> before = json(get("/api/clubs/1").body());
+        boolean joined = Boolean.TRUE.equals(before.get("joined"));
+        int members = ((Number) before.get("members")).intValue();
+
+        HttpResponse<String> toggled = post("/api/clubs/1/" + (joined ? "leave" : "join"), "");
+        Assert.assertEquals(toggled.statusCode(), 200);
+        Map<String, Object> after = json(toggled.body());
+        Assert.assertEquals(after.get("joined"), !joined);
+        Assert.assertEquals(((Number) after.get("members")).intValue(), members + (joined ? -1 : 1));
+    }
+
+    @Test
+    public void unknownClubsAreNotFound() throws Exception {
+        Assert.assertEquals(get("/api/clubs/999999").statusCode(), 404);
+        Assert.assertEquals(post("/api/clubs/999999/join", "").statusCode(), 404);
+        Assert.assertEquals(post("/api/clubs/999999/leave", "").statusCode(), 404);
+    }
+
+    @Test
+    public void apiNeedsASession() throws Exception {
+        HttpRequest anonymous = HttpRequest.newBuilder(URI.create(server.baseUrl() + "/api/clubs")).build();
+        Assert.assertEquals(http.send(anonymous, HttpResponse.BodyHandlers.ofString()).statusCode(), 401);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return http.send(HttpRequest.newBuilder(URI.create(server.baseUrl() + path)).header("Cookie", cookie).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(server.baseUrl() + path))
+                .header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body));
+        if (cookie != null) request.header("Cookie", cookie);
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static Map<String, Object> json(String body) {
+        return new Json().toType(body, Json.MAP_TYPE);
+    }
+}
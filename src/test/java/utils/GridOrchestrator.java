@@ -0,0 +1,317 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Drives many RemoteWebDriver sessions against a Selenium Grid, one worker per session. Workers take
+// jobs from a shared queue and keep their session between jobs. On Java 21+ every worker is a virtual
+// thread, so the thousands of blocking HTTP calls a session makes don't each pin a platform thread and
+// the Grid, not the JVM, is the limit; on Java 17 it falls back to platform threads.
+//
+// Each run reports peak concurrent sessions and session requests waiting on the Grid, session start
+// latency, and command throughput/latency. Sweeping the concurrency shows where throughput stops
+// growing, i.e. where the Grid saturates:
+//   mvn test-compile exec:java -Dexec.mainClass=utils.GridOrchestrator -Dexec.classpathScope=test \
+//       -Dgrid.url=http://localhost:4444 -Dgrid.sweep=1,2,4,8,16 [-Dgrid.jobs=40] [-Dgrid.target.url=...]
+// Without -Dgrid.target.url the jobs browse the embedded FixtureServer, which a Grid on the same host
+// can reach.
+public class GridOrchestrator {
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts", "window",
+            "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals");
+
+    private final URL gridUrl;
+    private final Capabilities capabilities;
+    private final int concurrency;
+    private final Queue<Job> jobs = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final AtomicInteger peakSessions = new AtomicInteger();
+    private final AtomicInteger pendingSessions = new AtomicInteger();
+    private final AtomicInteger peakPending = new AtomicInteger();
+    private final AtomicInteger inFlightCommands = new AtomicInteger();
+    private final AtomicInteger peakCommands = new AtomicInteger();
+    private final AtomicInteger sessionsFailed = new AtomicInteger();
+    private final AtomicLong jobsDone = new AtomicLong();
+    private final AtomicLong jobsFailed = new AtomicLong();
+    private final Histogram sessionStart = new Histogram();
+    private final Histogram commands = new Histogram();
+
+    public GridOrchestrator(URL gridUrl, Capabilities capabilities, int concurrency) {
+        if (concurrency < 1) throw new IllegalArgumentException("Concurrency must be at least 1, got " + concurrency);
+        this.gridUrl = gridUrl;
+        this.capabilities = capabilities;
+        this.concurrency = concurrency;
+    }
+
+    public void submit(String name, Consumer<WebDriver> work) {
+        jobs.add(new Job(name, work));
+    }
+
+    // Runs every queued job and returns when the queue is empty and all sessions are closed.
+    public Report run() {
+        long start = System.nanoTime();
+        ExecutorService workers = newExecutor();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(this::work));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for grid workers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Grid worker failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        return new Report(this, System.nanoTime() - start);
+    }
+
+    private void work() {
+        WebDriver driver = null;
+        try {
+            Job job;
+            while ((job = jobs.poll()) != null) {
+                if (driver == null) {
+                    try {
+                        driver = openSession();
+                    } catch (RuntimeException e) {
+                        // Grid refused or timed out the session; this worker gives up, the others carry on.
+                        jobs.add(job);
+                        sessionsFailed.incrementAndGet();
+                        System.out.println("⚠️ Could not start a Grid session: " + e.getMessage().lines().findFirst().orElse(""));
+                        return;
+                    }
+                }
+                try {
+                    job.work.accept(driver);
+                    jobsDone.incrementAndGet();
+                } catch (RuntimeException e) {
+                    jobsFailed.incrementAndGet();
+                    System.out.println("⚠️ " + job.name + " failed: " + e.getMessage());
+                    // The session may be gone; start the next job on a fresh one.
+                    closeSession(driver);
+                    driver = null;
+                }
+            }
+        } finally {
+            if (driver != null) closeSession(driver);
+        }
+    }
+
+    private WebDriver openSession() {
+        raise(pendingSessions, peakPending);
+        long start = System.nanoTime();
+        RemoteWebDriver remote;
+        try {
+            remote = new RemoteWebDriver(gridUrl, capabilities);
+        } finally {
+            pendingSessions.decrementAndGet();
+        }
+        sessionStart.record((System.nanoTime() - start) / 1_000);
+        raise(openSessions, peakSessions);
+        return new EventFiringDecorator<>(new CommandMeter(this)).decorate(remote);
+    }
+
+    private void closeSession(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException ignored) {
+        } finally {
+            openSessions.decrementAndGet();
+        }
+    }
+
+    private static void raise(AtomicInteger current, AtomicInteger peak) {
+        int now = current.incrementAndGet();
+        peak.accumulateAndGet(now, Math::max);
+    }
+
+    // Virtual threads when the JVM has them (looked up reflectively so the code still builds for 17).
+    static ExecutorService newExecutor() {
+        try {
+            Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtual.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "grid-worker");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    static boolean virtualThreads() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static class Job {
+        final String name;
+        final Consumer<WebDriver> work;
+
+        Job(String name, Consumer<WebDriver> work) {
+            this.name = name;
+            this.work = work;
+        }
+    }
+
+    // Times every command that reaches the Grid. Public because the decorator calls it reflectively.
+    public static class CommandMeter implements WebDriverListener {
+        private final GridOrchestrator owner;
+        private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+        CommandMeter(GridOrchestrator owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            if (LOCAL_CALLS.contains(method.getName())) return;
+            raise(owner.inFlightCommands, owner.peakCommands);
+            starts.get().push(System.nanoTime());
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finish(method);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            finish(method);
+        }
+
+        private void finish(Method method) {
+            if (LOCAL_CALLS.contains(method.getName())) return;
+            Long start = starts.get().poll();
+            if (start == null) return;
+            owner.inFlightCommands.decrementAndGet();
+            owner.commands.record((System.nanoTime() - start) / 1_000);
+        }
+    }
+
+    public static class Report {
+        public final int concurrency;
+        public final long wallMillis;
+        public final int peakSessions;
+        public final int peakPendingSessions;
+        public final int peakInFlightCommands;
+        public final int sessionsFailed;
+        public final int jobsNotRun;
+        public final long jobsDone;
+        public final long jobsFailed;
+        public final long commands;
+        public final double commandsPerSecond;
+        public final double jobsPerSecond;
+        public final long sessionStartP50Ms;
+        public final long sessionStartP95Ms;
+        public final long commandP50Ms;
+        public final long commandP95Ms;
+
+        Report(GridOrchestrator o, long wallNanos) {
+            concurrency = o.concurrency;
+            wallMillis = TimeUnit.NANOSECONDS.toMillis(wallNanos);
+            peakSessions = o.peakSessions.get();
+            peakPendingSessions = o.peakPending.get();
+            peakInFlightCommands = o.peakCommands.get();
+            sessionsFailed = o.sessionsFailed.get();
+            jobsNotRun = o.jobs.size();
+            jobsDone = o.jobsDone.get();
+            jobsFailed = o.jobsFailed.get();
+            commands = o.commands.count();
+            double seconds = Math.max(wallNanos, 1) / 1e9;
+            commandsPerSecond = commands / seconds;
+            jobsPerSecond = jobsDone / seconds;
+            sessionStartP50Ms = o.sessionStart.percentile(50) / 1000;
+            sessionStartP95Ms = o.sessionStart.percentile(95) / 1000;
+            commandP50Ms = o.commands.percentile(50) / 1000;
+            commandP95Ms = o.commands.percentile(95) / 1000;
+        }
+
+        static String header() {
+            return String.format("%6s %9s %8s %8s %8s %9s %9s %9s %10s %9s %9s %10s %10s",
+                    "conc", "sessions", "waiting", "in-cmd", "refused", "jobs ok", "failed", "not run", "cmd/s", "jobs/s",
+                    "wall s", "start p95", "cmd p95");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%6d %9d %8d %8d %8d %9d %9d %9d %10.1f %9.2f %9.1f %8dms %8dms",
+                    concurrency, peakSessions, peakPendingSessions, peakInFlightCommands, sessionsFailed,
+                    jobsDone, jobsFailed, jobsNotRun,
+                    commandsPerSecond, jobsPerSecond, wallMillis / 1000.0, sessionStartP95Ms, commandP95Ms);
+        }
+    }
+
+    public static void main(String[] args) throws MalformedURLException {
+        URL grid = new URL(System.getProperty("grid.url", "http://localhost:4444"));
+        String target = System.getProperty("grid.target.url");
+        if (target == null) target = FixtureServer.startShared().baseUrl();
+        String listing = target.replaceAll("/+$", "") + "/pages/hobby_clubs";
+
+        List<Integer> levels = new ArrayList<>();
+        for (String level : System.getProperty("grid.sweep", System.getProperty("grid.sessions", "4")).split(",")) {
+            levels.add(Integer.parseInt(level.trim()));
+        }
+
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1920,1080", "--disable-dev-shm-usage");
+
+        System.out.println("🕸️ Grid " + grid + ", target " + target + ", "
+                + (virtualThreads() ? "virtual" : "platform") + " threads");
+        List<Report> reports = new ArrayList<>();
+        for (int level : levels) {
+            GridOrchestrator orchestrator = new GridOrchestrator(grid, options, level);
+            int jobCount = Integer.getInteger("grid.jobs", level * 5);
+            for (int i = 0; i < jobCount; i++) {
+                orchestrator.submit("browse #" + i, driver -> {
+                    driver.get(listing);
+                    driver.findElements(By.cssSelector("div[class*='HobbyCardComponent_hobbyCard']")).forEach(card -> card.getText());
+                    driver.getTitle();
+                });
+            }
+            Report report = orchestrator.run();
+            reports.add(report);
+            System.out.println(Report.header());
+            System.out.println(report);
+        }
+
+        System.out.println("\nGrid sweep (sessions/waiting = peak concurrent sessions / session requests queued, refused = sessions the Grid failed to start):");
+        System.out.println(Report.header());
+        reports.forEach(System.out::println);
+        System.exit(0);
+    }
+}
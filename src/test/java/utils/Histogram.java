@@ -0,0 +1,43 @@
+package utils;
+
+// Log-bucketed latency histogram: constant memory, percentiles accurate to ~5%.
+// Latencies are recorded in microseconds.
+public class Histogram {
+    private static final double GROWTH = 1.05;
+    private static final int BUCKETS = 512;
+
+    private final long[] buckets = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    public synchronized void record(long micros) {
+        int bucket = micros <= 1 ? 0 : (int) Math.min(BUCKETS - 1, Math.ceil(Math.log(micros) / Math.log(GROWTH)));
+        buckets[bucket]++;
+        count++;
+        total += micros;
+        max = Math.max(max, micros);
+    }
+
+    public synchronized long percentile(double p) {
+        long rank = (long) Math.ceil(count * p / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) return Math.min(max, (long) Math.pow(GROWTH, i));
+        }
+        return max;
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized long totalMicros() {
+        return total;
+    }
+
+    public synchronized long max() {
+        return max;
+    }
+}
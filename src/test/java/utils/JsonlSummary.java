@@ -0,0 +1,176 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+// Offline summary of a JSONL event stream written by listeners.JsonlReporter. Reads the file line by
+// line; besides per-class counters it only keeps the N slowest tests, the first N failures and the tests
+// still running, so it works on event files of any size.
+//
+//   mvn test-compile exec:java -Dexec.mainClass=utils.JsonlSummary -Dexec.classpathScope=test \
+//       [-Dexec.args="target/test-events.jsonl [summary.txt]"] [-Dsummary.top=10]
+public class JsonlSummary {
+    private static final Json JSON = new Json();
+
+    private final int top;
+    private final Map<String, long[]> byStatus = new TreeMap<>();
+    private final Map<String, long[]> byClass = new TreeMap<>();
+    private final PriorityQueue<Map<String, Object>> slowest;
+    private final List<Map<String, Object>> failures = new ArrayList<>();
+    private final List<Map<String, Object>> configFailures = new ArrayList<>();
+    private final Map<Object, Map<String, Object>> running = new LinkedHashMap<>();
+    private long events;
+    private long malformed;
+    private long totalMillis;
+    private long firstTs = Long.MAX_VALUE;
+    private long lastTs;
+
+    JsonlSummary(int top) {
+        this.top = top;
+        this.slowest = new PriorityQueue<>(Comparator.comparingLong(JsonlSummary::duration));
+    }
+
+    void read(Path file) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) continue;
+                Map<String, Object> event;
+                try {
+                    event = JSON.toType(line, Json.MAP_TYPE);
+                } catch (RuntimeException e) {
+                    // A run killed mid-write leaves a partial last line.
+                    malformed++;
+                    continue;
+                }
+                accept(event);
+            }
+        }
+    }
+
+    void accept(Map<String, Object> event) {
+        events++;
+        if (event.get("ts") instanceof Number) {
+            long ts = ((Number) event.get("ts")).longValue();
+            firstTs = Math.min(firstTs, ts);
+            lastTs = Math.max(lastTs, ts);
+        }
+        switch (String.valueOf(event.get("event"))) {
+            case "testStart":
+                if (event.get("id") != null) running.put(event.get("id"), event);
+                break;
+            case "testResult":
+                result(event);
+                break;
+            case "configFailure":
+                if (configFailures.size() < top) configFailures.add(event);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void result(Map<String, Object> event) {
+        running.remove(event.get("id"));
+        String status = String.valueOf(event.get("status"));
+        long millis = duration(event);
+        totalMillis += millis;
+        count(byStatus, status, millis);
+        count(byClass, simple(String.valueOf(event.get("class"))) + " " + status, millis);
+
+        if (status.equals("FAIL") && failures.size() < top) failures.add(event);
+        if (status.equals("PASS") || status.equals("FAIL")) {
+            slowest.add(event);
+            if (slowest.size() > top) slowest.poll();
+        }
+    }
+
+    String render() {
+        StringBuilder sb = new StringBuilder();
+        long wall = lastTs >= firstTs ? lastTs - firstTs : 0;
+        sb.append(String.format("🧾 %d event(s), %.1fs of test time over %.1fs wall%s%n", events, totalMillis / 1000.0,
+                wall / 1000.0, malformed > 0 ? ", " + malformed + " malformed line(s) skipped" : ""));
+        byStatus.forEach((status, t) -> sb.append(String.format("  %-6s %6d  %9.1fs%n", status, t[0], t[1] / 1000.0)));
+
+        sb.append("\nBy class\n");
+        byClass.forEach((key, t) -> sb.append(String.format("  %-50s %6d  %9.1fs%n", key, t[0], t[1] / 1000.0)));
+
+        List<Map<String, Object>> slow = new ArrayList<>(slowest);
+        slow.sort(Comparator.comparingLong(JsonlSummary::duration).reversed());
+        sb.append("\nSlowest tests\n");
+        for (Map<String, Object> e : slow) {
+            sb.append(String.format("  %-70s %9.1fs  %s%n", name(e), duration(e) / 1000.0, e.get("status")));
+        }
+
+        if (!failures.isEmpty()) {
+            sb.append("\nFailures").append(failures.size() == top ? " (first " + top + ")" : "").append('\n');
+            for (Map<String, Object> e : failures) {
+                sb.append("  ❌ ").append(name(e)).append(": ").append(firstLine(e.get("message"))).append('\n');
+            }
+        }
+        if (!configFailures.isEmpty()) {
+            sb.append("\nConfiguration failures\n");
+            for (Map<String, Object> e : configFailures) {
+                sb.append("  ⚠️ ").append(name(e)).append(": ").append(firstLine(e.get("message"))).append('\n');
+            }
+        }
+        if (!running.isEmpty()) {
+            sb.append("\nStarted but never finished (the run stopped while these ran)\n");
+            for (Map<String, Object> e : running.values()) sb.append("  ⏳ ").append(name(e)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void count(Map<String, long[]> counters, String key, long millis) {
+        long[] t = counters.computeIfAbsent(key, k -> new long[2]);
+        t[0]++;
+        t[1] += millis;
+    }
+
+    private static long duration(Map<String, Object> event) {
+        Object ms = event.get("durationMs");
+        return ms instanceof Number ? ((Number) ms).longValue() : 0;
+    }
+
+    private static String name(Map<String, Object> event) {
+        String name = simple(String.valueOf(event.get("class"))) + "." + event.get("method");
+        Object parameters = event.get("parameters");
+        return parameters instanceof List && !((List<?>) parameters).isEmpty() ? name + parameters : name;
+    }
+
+    private static String simple(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String firstLine(Object message) {
+        return String.valueOf(message).lines().findFirst().orElse("");
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : "target/test-events.jsonl");
+        if (!Files.isRegularFile(file)) {
+            System.out.println("Usage: JsonlSummary [events.jsonl] [summary.txt]  (no events at " + file + ")");
+            System.exit(2);
+        }
+        JsonlSummary summary = new JsonlSummary(Integer.getInteger("summary.top", 10));
+        summary.read(file);
+        String text = summary.render();
+        System.out.print(text);
+        if (args.length > 1) {
+            Files.writeString(Paths.get(args[1]), text, StandardCharsets.UTF_8);
+        }
+    }
+}
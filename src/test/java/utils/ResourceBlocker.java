@@ -0,0 +1,172 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Intercepts resource loads no test asserts on, via CDP Fetch (local Chrome only):
+//   images      answered with a 1x1 PNG once the response headers arrive, so <img> elements (the
+//               img.w-full banners) stay in the DOM with placeholder content and the body is never read
+//   fonts/media failed after the response headers arrive
+//   thirdparty  scripts from hosts other than the base URL's, failed before they are requested
+// Bytes avoided are taken from Content-Length, so chunked responses only count as requests.
+//
+// Enable with -Dresource.blocking=true (images, fonts, thirdparty) or a class list such as
+// -Dresource.blocking=images,fonts,media,thirdparty. Off by default.
+public class ResourceBlocker {
+    private static final Set<String> DEFAULT_CLASSES = Set.of("images", "fonts", "thirdparty");
+    private static final String PLACEHOLDER_PNG =
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=";
+    private static final Map<WebDriver, ResourceBlocker> blockers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<String> classes;
+    private final String firstPartyHost;
+    private final AtomicLong requestsAvoided = new AtomicLong();
+    private final AtomicLong bytesAvoided = new AtomicLong();
+    private DevTools devTools;
+
+    private ResourceBlocker(Set<String> classes, String firstPartyHost) {
+        this.classes = classes;
+        this.firstPartyHost = firstPartyHost;
+    }
+
+    public static Set<String> configuredClasses() {
+        String value = System.getProperty("resource.blocking", "false").trim().toLowerCase(Locale.ROOT);
+        if (value.isEmpty() || value.equals("false") || value.equals("off")) return Set.of();
+        if (value.equals("true") || value.equals("on")) return DEFAULT_CLASSES;
+        Set<String> classes = new LinkedHashSet<>();
+        for (String c : value.split(",")) {
+            if (!c.isBlank()) classes.add(c.trim());
+        }
+        return classes;
+    }
+
+    // Starts intercepting on this driver when -Dresource.blocking is set; a no-op otherwise or
+    // when the driver has no DevTools connection (remote grids).
+    public static void attachIfEnabled(WebDriver driver) {
+        Set<String> classes = configuredClasses();
+        if (classes.isEmpty() || !(driver instanceof HasDevTools)) return;
+        ResourceBlocker blocker = new ResourceBlocker(classes, URI.create(Config.baseUrl()).getHost());
+        try {
+            blocker.start(((HasDevTools) driver).getDevTools());
+            // Re-attached after a pool reset replaces the old blocker, whose session is gone.
+            if (blockers.put(driver, blocker) == null) {
+                System.out.println("🚫 Resource blocking on: " + String.join(", ", classes));
+            }
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ Resource blocking unavailable: " + e.getMessage());
+        }
+    }
+
+    // Running totals for the driver, {requests, bytes}; null when blocking is not active on it.
+    public static long[] totals(WebDriver driver) {
+        ResourceBlocker blocker = driver == null ? null : blockers.get(driver);
+        return blocker == null ? null : new long[] { blocker.requestsAvoided.get(), blocker.bytesAvoided.get() };
+    }
+
+    private void start(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.createSessionIfThereIsNotOne();
+
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        if (classes.contains("images")) patterns.add(pattern("Image", "Response"));
+        if (classes.contains("fonts")) patterns.add(pattern("Font", "Response"));
+        if (classes.contains("media")) patterns.add(pattern("Media", "Response"));
+        if (classes.contains("thirdparty")) patterns.add(pattern("Script", "Request"));
+
+        devTools.addListener(new Event<Map<String, Object>>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                this::onPaused);
+        devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", patterns)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPaused(Map<String, Object> event) {
+        String requestId = (String) event.get("requestId");
+        String type = String.valueOf(event.get("resourceType"));
+        String url = String.valueOf(((Map<String, Object>) event.get("request")).get("url"));
+        Number status = (Number) event.get("responseStatusCode");
+
+        try {
+            if (type.equals("Script")) {
+                if (isFirstParty(url)) {
+                    proceed(requestId);
+                } else {
+                    avoided(0);
+                    fail(requestId);
+                }
+                return;
+            }
+            // Only successful responses are replaced; redirects and errors go through untouched.
+            if (status == null || status.intValue() < 200 || status.intValue() >= 300) {
+                proceed(requestId);
+                return;
+            }
+            avoided(contentLength((List<Map<String, Object>>) event.get("responseHeaders")));
+            if (type.equals("Image")) {
+                devTools.send(new Command<Void>("Fetch.fulfillRequest", Map.of(
+                        "requestId", requestId,
+                        "responseCode", 200,
+                        "responseHeaders", List.of(Map.of("name", "Content-Type", "value", "image/png")),
+                        "body", PLACEHOLDER_PNG)));
+            } else {
+                fail(requestId);
+            }
+        } catch (RuntimeException e) {
+            // The page may have navigated away and dropped the request already.
+        }
+    }
+
+    private boolean isFirstParty(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null || host.equalsIgnoreCase(firstPartyHost);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    private void proceed(String requestId) {
+        devTools.send(new Command<Void>("Fetch.continueRequest", Map.of("requestId", requestId)));
+    }
+
+    private void fail(String requestId) {
+        devTools.send(new Command<Void>("Fetch.failRequest", Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+    }
+
+    private void avoided(long bytes) {
+        requestsAvoided.incrementAndGet();
+        bytesAvoided.addAndGet(bytes);
+    }
+
+    private static long contentLength(List<Map<String, Object>> headers) {
+        if (headers == null) return 0;
+        for (Map<String, Object> header : headers) {
+            if ("content-length".equalsIgnoreCase(String.valueOf(header.get("name")))) {
+                try {
+                    return Long.parseLong(String.valueOf(header.get("value")).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static Map<String, Object> pattern(String resourceType, String stage) {
+        return Map.of("urlPattern", "*", "resourceType", resourceType, "requestStage", stage);
+    }
+}
@@ -0,0 +1,169 @@
+package utils;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Combines the testng-results.xml of several shards (-Dshard=i/n runs) into one report.
+// Suites and <test>s with the same name are merged, so a suite split over n JVMs reads as one run:
+// the root totals are summed and a merged suite's duration is the longest shard's, since shards run
+// side by side.
+// Usage: mvn -Pmerge-shards verify [-Dshards.dir=target/shards] [-Dshards.output=target/merged-reports]
+//        java utils.ResultMerger <output dir or file> <shard dirs or files>...
+public class ResultMerger {
+    private static final String[] TOTALS = { "total", "passed", "failed", "skipped", "ignored" };
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ResultMerger <output> <shard dir or testng-results.xml>...");
+            System.exit(2);
+        }
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.addAll(resultFiles(Paths.get(args[i])));
+        }
+        if (inputs.isEmpty()) {
+            throw new IllegalStateException("No testng-results.xml found under " + String.join(", ", List.of(args).subList(1, args.length)));
+        }
+
+        Path output = Paths.get(args[0]);
+        if (!output.toString().endsWith(".xml")) output = output.resolve("testng-results.xml");
+        Document merged = merge(inputs);
+        write(merged, output);
+
+        Element root = merged.getDocumentElement();
+        System.out.println("🧩 Merged " + inputs.size() + " shard result(s) into " + output + ": "
+                + root.getAttribute("total") + " total, " + root.getAttribute("passed") + " passed, "
+                + root.getAttribute("failed") + " failed, " + root.getAttribute("skipped") + " skipped");
+    }
+
+    public static Document merge(List<Path> files) throws Exception {
+        DocumentBuilder builder = builder();
+        Document merged = builder.newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+        root.appendChild(merged.createElement("reporter-output"));
+
+        long[] totals = new long[TOTALS.length];
+        Map<String, Element> suites = new LinkedHashMap<>();
+        for (Path file : files) {
+            Element shardRoot = builder.parse(file.toFile()).getDocumentElement();
+            for (int i = 0; i < TOTALS.length; i++) {
+                totals[i] += parse(shardRoot.getAttribute(TOTALS[i]));
+            }
+            for (Element suite : children(shardRoot, "suite")) {
+                Element target = suites.get(suite.getAttribute("name"));
+                if (target == null) {
+                    suites.put(suite.getAttribute("name"), (Element) root.appendChild(merged.importNode(suite, true)));
+                } else {
+                    mergeSuite(merged, target, suite);
+                }
+            }
+        }
+        for (int i = 0; i < TOTALS.length; i++) {
+            root.setAttribute(TOTALS[i], String.valueOf(totals[i]));
+        }
+        return merged;
+    }
+
+    private static void mergeSuite(Document merged, Element target, Element suite) {
+        // Timestamps are ISO-like strings in the same zone, so the lexical min/max is the real one.
+        if (suite.getAttribute("started-at").compareTo(target.getAttribute("started-at")) < 0) {
+            target.setAttribute("started-at", suite.getAttribute("started-at"));
+        }
+        if (suite.getAttribute("finished-at").compareTo(target.getAttribute("finished-at")) > 0) {
+            target.setAttribute("finished-at", suite.getAttribute("finished-at"));
+        }
+        long duration = Math.max(parse(target.getAttribute("duration-ms")), parse(suite.getAttribute("duration-ms")));
+        target.setAttribute("duration-ms", String.valueOf(duration));
+
+        for (Element test : children(suite, "test")) {
+            Element existing = null;
+            for (Element t : children(target, "test")) {
+                if (t.getAttribute("name").equals(test.getAttribute("name"))) existing = t;
+            }
+            if (existing == null) {
+                target.appendChild(merged.importNode(test, true));
+            } else {
+                for (Element cls : children(test, "class")) {
+                    existing.appendChild(merged.importNode(cls, true));
+                }
+                long testDuration = Math.max(parse(existing.getAttribute("duration-ms")), parse(test.getAttribute("duration-ms")));
+                existing.setAttribute("duration-ms", String.valueOf(testDuration));
+            }
+        }
+    }
+
+    private static void write(Document document, Path output) throws Exception {
+        if (output.getParent() != null) Files.createDirectories(output.getParent());
+        stripWhitespace(document.getDocumentElement());
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        transformer.transform(new DOMSource(document), new StreamResult(output.toFile()));
+    }
+
+    // The shards' own indentation would be indented again on output.
+    private static void stripWhitespace(Node node) {
+        NodeList nodes = node.getChildNodes();
+        for (int i = nodes.getLength() - 1; i >= 0; i--) {
+            Node child = nodes.item(i);
+            if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().isBlank()) {
+                node.removeChild(child);
+            } else if (child instanceof Element) {
+                stripWhitespace(child);
+            }
+        }
+    }
+
+    private static List<Element> children(Element parent, String tag) {
+        List<Element> result = new ArrayList<>();
+        NodeList nodes = parent.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node instanceof Element && node.getNodeName().equals(tag)) result.add((Element) node);
+        }
+        return result;
+    }
+
+    private static List<Path> resultFiles(Path root) throws IOException {
+        if (Files.isRegularFile(root)) return List.of(root);
+        if (!Files.isDirectory(root)) return List.of();
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(p -> p.getFileName().toString().equals("testng-results.xml")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static DocumentBuilder builder() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        return factory.newDocumentBuilder();
+    }
+
+    private static long parse(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
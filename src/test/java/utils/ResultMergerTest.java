@@ -0,0 +1,66 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ResultMergerTest {
+
+    @Test
+    public void totalsAreSummedAndSameNamedSuitesCombined() throws Exception {
+        Path dir = Files.createTempDirectory("shards");
+        Path first = shard(dir, "1", "total=\"3\" passed=\"2\" failed=\"1\" skipped=\"0\" ignored=\"0\"",
+                "2024-01-01T10:00:05", "2024-01-01T10:01:00", 55000, "HobbyClubTest");
+        Path second = shard(dir, "2", "total=\"4\" passed=\"1\" failed=\"0\" skipped=\"3\" ignored=\"1\"",
+                "2024-01-01T10:00:00", "2024-01-01T10:02:00", 120000, "VendorTests");
+
+        Element root = ResultMerger.merge(List.of(first, second)).getDocumentElement();
+        Assert.assertEquals(root.getAttribute("total"), "7");
+        Assert.assertEquals(root.getAttribute("passed"), "3");
+        Assert.assertEquals(root.getAttribute("failed"), "1");
+        Assert.assertEquals(root.getAttribute("skipped"), "3");
+        Assert.assertEquals(root.getAttribute("ignored"), "1");
+
+        NodeList suites = root.getElementsByTagName("suite");
+        Assert.assertEquals(suites.getLength(), 1);
+        Element suite = (Element) suites.item(0);
+        Assert.assertEquals(suite.getAttribute("started-at"), "2024-01-01T10:00:00");
+        Assert.assertEquals(suite.getAttribute("finished-at"), "2024-01-01T10:02:00");
+        Assert.assertEquals(suite.getAttribute("duration-ms"), "120000");
+
+        NodeList tests = suite.getElementsByTagName("test");
+        Assert.assertEquals(tests.getLength(), 1);
+        NodeList classes = ((Element) tests.item(0)).getElementsByTagName("class");
+        Assert.assertEquals(classes.getLength(), 2);
+        Assert.assertEquals(((Element) classes.item(0)).getAttribute("name"), "testngsuite.HobbyClubTest");
+        Assert.assertEquals(((Element) classes.item(1)).getAttribute("name"), "testngsuite.VendorTests");
+    }
+
+    @Test
+    public void missingTotalsCountAsZero() throws Exception {
+        Path dir = Files.createTempDirectory("shards");
+        Path file = dir.resolve("testng-results.xml");
+        Files.writeString(file, "<testng-results total=\"x\"><reporter-output/></testng-results>", StandardCharsets.UTF_8);
+        Element root = ResultMerger.merge(List.of(file)).getDocumentElement();
+        Assert.assertEquals(root.getAttribute("total"), "0");
+        Assert.assertEquals(root.getAttribute("passed"), "0");
+    }
+
+    private static Path shard(Path dir, String name, String totals, String started, String finished, long duration,
+            String testClass) throws Exception {
+        Path file = dir.resolve(name).resolve("testng-results.xml");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "<testng-results " + totals + "><reporter-output/>"
+                + "<suite name=\"Fixture Suite\" started-at=\"" + started + "\" finished-at=\"" + finished
+                + "\" duration-ms=\"" + duration + "\">"
+                + "<test name=\"All Tests\" duration-ms=\"" + duration + "\">"
+                + "<class name=\"testngsuite." + testClass + "\"/></test></suite></testng-results>", StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,170 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Harvests an infinite-scroll listing without fixed sleeps. Each round scrolls the last item into
+// view and returns as soon as the page reacts:
+//   - new items were appended (and the DOM went quiet)  -> read them and scroll again
+//   - the end of the list was in view (IntersectionObserver) with no requests pending and nothing
+//     new rendered for the idle period                   -> end of list
+// New items are handed to the consumer after every round, so a run cut short by maxTime/maxItems
+// still delivers everything read so far.
+public class ScrollHarvester {
+    private static final String ROUND = Waits.INSTRUMENT
+            + "const [sel, known, idleMs, timeoutMs] = arguments, done = arguments[arguments.length - 1];"
+            + "const w = window.__waits, start = performance.now();"
+            + "const items = document.querySelectorAll(sel);"
+            + "const target = items[items.length - 1] || document.body;"
+            + "let inView = false, grown = false;"
+            + "const io = new IntersectionObserver(es => { if (es.some(e => e.isIntersecting)) inView = true; });"
+            + "io.observe(target);"
+            + "window.scrollTo(0, document.body.scrollHeight);"
+            + "const finish = (reason) => { io.disconnect(); done([document.querySelectorAll(sel).length, reason]); };"
+            + "const tick = () => {"
+            + "  const now = performance.now();"
+            + "  if (document.querySelectorAll(sel).length > known) grown = true;"
+            + "  if (grown && now - w.lastMutation >= 100) return finish('grew');"
+            + "  if (!grown && inView && w.pending === 0"
+            + "      && now - w.lastNetwork >= idleMs && now - w.lastMutation >= idleMs) return finish('idle');"
+            + "  if (now - start > timeoutMs) return finish(grown ? 'grew' : 'timeout');"
+            + "  setTimeout(tick, 50);"
+            + "};"
+            + "tick();";
+
+    private final WebDriver driver;
+    private final DomBatch items;
+    private final String itemSelector;
+    private int maxItems = Integer.MAX_VALUE;
+    private Duration maxTime = Duration.ofMinutes(2);
+    private Duration idle = Duration.ofMillis(500);
+    private Duration roundTimeout = Duration.ofSeconds(10);
+
+    public ScrollHarvester(WebDriver driver, String itemSelector, DomBatch items) {
+        this.driver = driver;
+        this.itemSelector = itemSelector;
+        this.items = items;
+    }
+
+    public ScrollHarvester maxItems(int maxItems) {
+        this.maxItems = maxItems;
+        return this;
+    }
+
+    public ScrollHarvester maxTime(Duration maxTime) {
+        this.maxTime = maxTime;
+        return this;
+    }
+
+    // How long the page must stay idle with the end of the list in view before we call it done.
+    public ScrollHarvester idle(Duration idle) {
+        this.idle = idle;
+        return this;
+    }
+
+    // Upper bound for a single scroll round that produces neither new items nor an idle page.
+    public ScrollHarvester roundTimeout(Duration roundTimeout) {
+        this.roundTimeout = roundTimeout;
+        return this;
+    }
+
+    // Streams mapped items to the consumer; records the mapper returns null for are skipped.
+    public <T> Result harvest(Function<DomBatch.DomRecord, T> mapper, Consumer<T> sink) {
+        long start = System.nanoTime();
+        long deadline = start + maxTime.toNanos();
+        Result result = new Result();
+
+        emit(mapper, sink, result);
+        String reason = "end of list";
+
+        while (true) {
+            if (result.items >= maxItems) {
+                reason = "max items (" + maxItems + ")";
+                break;
+            }
+            long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMs <= 0) {
+                reason = "max time (" + maxTime.toSeconds() + "s)";
+                break;
+            }
+
+            String outcome = scrollRound(result.read, Math.min(remainingMs, roundTimeout.toMillis()));
+            result.rounds++;
+            int before = result.items;
+            emit(mapper, sink, result);
+
+            if (result.items == before && !outcome.equals("grew")) {
+                if (outcome.equals("timeout")) reason = "no new items within " + roundTimeout.toMillis() + " ms";
+                break;
+            }
+        }
+
+        result.stopReason = reason;
+        result.elapsed = Duration.ofNanos(System.nanoTime() - start);
+        System.out.println("📜 Harvested " + result.items + " item(s) in " + result.rounds + " scroll round(s), "
+                + result.elapsed.toMillis() + " ms — stopped on " + reason);
+        return result;
+    }
+
+    private String scrollRound(int known, long timeoutMs) {
+        // Leave headroom over the in-page timeout so the script always reports back itself.
+        Duration previous = driver.manage().timeouts().getScriptTimeout();
+        driver.manage().timeouts().scriptTimeout(Duration.ofMillis(timeoutMs + 5000));
+        try {
+            @SuppressWarnings("unchecked")
+            List<Object> outcome = (List<Object>) ((JavascriptExecutor) driver)
+                    .executeAsyncScript(ROUND, itemSelector, known, idle.toMillis(), timeoutMs);
+            return (String) outcome.get(1);
+        } catch (ScriptTimeoutException e) {
+            return "timeout";
+        } finally {
+            driver.manage().timeouts().scriptTimeout(previous);
+        }
+    }
+
+    // Reads only the containers appended since the previous round.
+    private <T> void emit(Function<DomBatch.DomRecord, T> mapper, Consumer<T> sink, Result result) {
+        for (DomBatch.DomRecord record : items.extract(driver, result.read)) {
+            if (result.items >= maxItems) break;
+            result.read = record.index() + 1;
+            T value = mapper.apply(record);
+            if (value == null) continue;
+            sink.accept(value);
+            result.items++;
+        }
+    }
+
+    public static class Result {
+        int items;
+        int rounds;
+        int read;
+        String stopReason;
+        Duration elapsed;
+
+        public int items() {
+            return items;
+        }
+
+        public int rounds() {
+            return rounds;
+        }
+
+        public String stopReason() {
+            return stopReason;
+        }
+
+        public Duration elapsed() {
+            return elapsed;
+        }
+
+        public boolean complete() {
+            return "end of list".equals(stopReason);
+        }
+    }
+}
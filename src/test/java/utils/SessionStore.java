@@ -0,0 +1,226 @@
+package utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Saves an authenticated browser state (cookies + localStorage + sessionStorage) after one real
+// login so other drivers, threads and forked JVMs can restore it instead of going through the form.
+// Entries are keyed by account and base URL and expire after -Dsession.ttl.minutes (default 30).
+public class SessionStore {
+    private static final Json JSON = new Json();
+    private static final Type STATE_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final Path DIR = Paths.get(System.getProperty("session.cache.dir", "target/session-cache"));
+    private static final Map<String, State> memory = new ConcurrentHashMap<>();
+    private static final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("session.cache", "true"));
+    }
+
+    public static Duration ttl() {
+        return Duration.ofMinutes(Long.getLong("session.ttl.minutes", 30));
+    }
+
+    public static Optional<State> load(String account, String baseUrl) {
+        if (!isEnabled()) return Optional.empty();
+        String key = key(account, baseUrl);
+
+        State state = memory.get(key);
+        if (state == null) {
+            Path file = DIR.resolve(key + ".json");
+            if (Files.exists(file)) {
+                try {
+                    state = State.fromMap(JSON.toType(Files.readString(file, StandardCharsets.UTF_8), STATE_TYPE));
+                    memory.put(key, state);
+                } catch (IOException | RuntimeException e) {
+                    System.out.println("Ignoring unreadable session cache " + file + ": " + e.getMessage());
+                    return Optional.empty();
+                }
+            }
+        }
+        if (state == null || state.isExpired()) return Optional.empty();
+        return Optional.of(state);
+    }
+
+    public static void save(String account, String baseUrl, State state) {
+        if (!isEnabled()) return;
+        String key = key(account, baseUrl);
+        memory.put(key, state);
+        try {
+            Files.createDirectories(DIR);
+            Path tmp = Files.createTempFile(DIR, key, ".tmp");
+            Files.writeString(tmp, JSON.toJson(state.toMap()), StandardCharsets.UTF_8);
+            Files.move(tmp, DIR.resolve(key + ".json"), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Could not persist session cache: " + e.getMessage());
+        }
+    }
+
+    public static void invalidate(String account, String baseUrl) {
+        String key = key(account, baseUrl);
+        memory.remove(key);
+        try {
+            Files.deleteIfExists(DIR.resolve(key + ".json"));
+        } catch (IOException ignored) {
+        }
+    }
+
+    // Serialises logins for one account across threads (in-process lock) and JVMs (file lock),
+    // so that only the first worker types into the form and the rest restore its session.
+    public static Lock lock(String account, String baseUrl) {
+        String key = key(account, baseUrl);
+        ReentrantLock local = locks.computeIfAbsent(key, k -> new ReentrantLock());
+        local.lock();
+        try {
+            Files.createDirectories(DIR);
+            FileChannel channel = FileChannel.open(DIR.resolve(key + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            return new Lock(local, channel, channel.lock());
+        } catch (IOException e) {
+            local.unlock();
+            throw new UncheckedIOException("Could not lock session cache for " + account, e);
+        }
+    }
+
+    // Reads the current browser state. Must be called while on the application's origin.
+    public static State capture(WebDriver driver) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> raw = new LinkedHashMap<>(cookie.toJson());
+            if (cookie.getExpiry() != null) raw.put("expiry", cookie.getExpiry().getTime() / 1000);
+            cookies.add(raw);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, String>> storage = (Map<String, Map<String, String>>) ((JavascriptExecutor) driver)
+                .executeScript("const dump = s => { const o = {}; for (let i = 0; i < s.length; i++) { const k = s.key(i); o[k] = s.getItem(k); } return o; };"
+                        + "return { local: dump(window.localStorage), session: dump(window.sessionStorage) };");
+        return new State(cookies, storage.get("local"), storage.get("session"), System.currentTimeMillis());
+    }
+
+    // Writes a saved state into the browser. The driver must already be on the application's origin.
+    public static void apply(WebDriver driver, State state) {
+        for (Map<String, Object> raw : state.cookies) {
+            try {
+                driver.manage().addCookie(toCookie(raw));
+            } catch (WebDriverException e) {
+                // Cookies for other domains (analytics etc.) can't be set from this origin.
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(
+                "for (const [k, v] of Object.entries(arguments[0])) window.localStorage.setItem(k, v);"
+                        + "for (const [k, v] of Object.entries(arguments[1])) window.sessionStorage.setItem(k, v);",
+                state.localStorage, state.sessionStorage);
+    }
+
+    private static Cookie toCookie(Map<String, Object> raw) {
+        Cookie.Builder builder = new Cookie.Builder((String) raw.get("name"), (String) raw.get("value"))
+                .path((String) raw.getOrDefault("path", "/"))
+                .isSecure(Boolean.TRUE.equals(raw.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(raw.get("httpOnly")));
+        if (raw.get("domain") != null) builder.domain((String) raw.get("domain"));
+        if (raw.get("sameSite") != null) builder.sameSite((String) raw.get("sameSite"));
+        Object expiry = raw.get("expiry");
+        if (expiry instanceof Number) builder.expiresOn(new Date(((Number) expiry).longValue() * 1000));
+        return builder.build();
+    }
+
+    private static String key(String account, String baseUrl) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((account.toLowerCase() + "|" + baseUrl).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 12; i++) hex.append(String.format("%02x", hash[i]));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class State {
+        private final List<Map<String, Object>> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+        private final long savedAt;
+
+        State(List<Map<String, Object>> cookies, Map<String, String> localStorage,
+              Map<String, String> sessionStorage, long savedAt) {
+            this.cookies = cookies;
+            this.localStorage = localStorage == null ? new HashMap<>() : localStorage;
+            this.sessionStorage = sessionStorage == null ? new HashMap<>() : sessionStorage;
+            this.savedAt = savedAt;
+        }
+
+        public boolean isExpired() {
+            return System.currentTimeMillis() - savedAt > ttl().toMillis();
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("savedAt", savedAt);
+            map.put("cookies", cookies);
+            map.put("localStorage", localStorage);
+            map.put("sessionStorage", sessionStorage);
+            return map;
+        }
+
+        @SuppressWarnings("unchecked")
+        static State fromMap(Map<String, Object> map) {
+            return new State((List<Map<String, Object>>) map.get("cookies"),
+                    (Map<String, String>) map.get("localStorage"),
+                    (Map<String, String>) map.get("sessionStorage"),
+                    ((Number) map.get("savedAt")).longValue());
+        }
+    }
+
+    public static class Lock implements AutoCloseable {
+        private final ReentrantLock local;
+        private final FileChannel channel;
+        private final FileLock fileLock;
+
+        Lock(ReentrantLock local, FileChannel channel, FileLock fileLock) {
+            this.local = local;
+            this.channel = channel;
+            this.fileLock = fileLock;
+        }
+
+        @Override
+        public void close() {
+            try {
+                fileLock.release();
+                channel.close();
+            } catch (IOException ignored) {
+            } finally {
+                local.unlock();
+            }
+        }
+    }
+}
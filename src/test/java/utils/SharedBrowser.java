@@ -0,0 +1,255 @@
+package utils;
+
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// One Chrome process shared by every driver of the run (-Ddriver.mode=contexts, local runs only).
+// Each session gets its own browser context (CDP Target.createBrowserContext): a separate window with
+// its own cookies, storage and cache, like an incognito profile. Resetting a session throws its
+// context away and opens a fresh one, which is faster and more thorough than clearing state by hand.
+//
+// A host ChromeDriver session starts the browser; further sessions attach to it through
+// goog:chromeOptions.debuggerAddress, each on its own chromedriver process. Contexts are created over
+// the browser's own DevTools websocket, since a page session can't create them.
+public class SharedBrowser {
+    private static SharedBrowser instance;
+
+    private final ChromeDriverService service;
+    private final ChromeDriver host;
+    private final String debuggerAddress;
+    private final BrowserConnection browser;
+    private final Map<WebDriver, String> contexts = new ConcurrentHashMap<>();
+    private final AtomicInteger leases = new AtomicInteger();
+
+    private SharedBrowser(ChromeOptions options) {
+        service = ChromeDriverService.createDefaultService();
+        host = new ChromeDriver(service, options);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> chromeOptions = (Map<String, Object>) host.getCapabilities().getCapability("goog:chromeOptions");
+        debuggerAddress = String.valueOf(chromeOptions.get("debuggerAddress"));
+        browser = new BrowserConnection(debuggerAddress);
+        System.out.println("🧭 Shared Chrome started at " + debuggerAddress + "; sessions get their own browser contexts.");
+    }
+
+    public static boolean enabled() {
+        return "contexts".equalsIgnoreCase(System.getProperty("driver.mode", "processes"));
+    }
+
+    // Starts the shared browser on first use with the given options.
+    public static synchronized SharedBrowser get(ChromeOptions options) {
+        if (instance == null) {
+            instance = new SharedBrowser(options);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown));
+        }
+        return instance;
+    }
+
+    // A new session in a new browser context.
+    public WebDriver newSession() {
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("debuggerAddress", debuggerAddress);
+        // Its own chromedriver: ChromeDriver stops the service it was given on quit(), which on the host's
+        // service would take the shared browser and every other session down with it.
+        ChromeDriverService own = ChromeDriverService.createDefaultService();
+        Session driver;
+        try {
+            driver = new Session(own, options);
+        } catch (RuntimeException e) {
+            own.stop();
+            throw e;
+        }
+        try {
+            contexts.put(driver, openContext(driver));
+        } catch (RuntimeException e) {
+            driver.quit();
+            throw e;
+        }
+        return driver;
+    }
+
+    // An attached session; quitting it (e.g. when the pool discards it) also disposes its context.
+    private class Session extends ChromeDriver {
+        Session(ChromeDriverService service, ChromeOptions options) {
+            super(service, options);
+        }
+
+        @Override
+        public void quit() {
+            String context = contexts.remove(this);
+            try {
+                super.quit();
+            } finally {
+                if (context != null) {
+                    try {
+                        browser.call("Target.disposeBrowserContext", Map.of("browserContextId", context));
+                    } catch (RuntimeException ignored) {
+                    }
+                }
+            }
+        }
+    }
+
+    // Pool reset: moves the session into a fresh context and disposes the old one with all its tabs.
+    // The caller re-attaches its DevTools features; the session's CDP connection already points at the
+    // new target.
+    public void reset(WebDriver driver) {
+        WebDriver raw = unwrap(driver);
+        String old = contexts.get(raw);
+        if (old == null) throw new IllegalStateException("Not a shared-browser session: " + driver);
+        contexts.put(raw, openContext(raw));
+        browser.call("Target.disposeBrowserContext", Map.of("browserContextId", old));
+    }
+
+    private String openContext(WebDriver driver) {
+        String marker = "about:blank#lease-" + leases.incrementAndGet();
+        String contextId = (String) browser.call("Target.createBrowserContext", Map.of("disposeOnDetach", false))
+                .get("browserContextId");
+        String targetId = (String) browser.call("Target.createTarget", Map.of("url", marker, "browserContextId", contextId))
+                .get("targetId");
+        try {
+            // chromedriver uses CDP target ids as window handles.
+            driver.switchTo().window(targetId);
+        } catch (NoSuchWindowException e) {
+            switchByUrl(driver, marker);
+        }
+        bindDevTools(driver);
+        return contextId;
+    }
+
+    // The DevTools connection sees every page of the shared browser, and without a window handle
+    // Selenium attaches to whichever page it finds first. Detach from the previous target (dropping
+    // its listeners) and attach to this session's window.
+    private static void bindDevTools(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) return;
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.disconnectSession();
+            devTools.clearListeners();
+            devTools.createSession(driver.getWindowHandle());
+        } catch (RuntimeException e) {
+            // The DevTools features report their own unavailability when they attach.
+            System.out.println("⚠️ DevTools not bound to the new browser context: " + e.getMessage());
+        }
+    }
+
+    private static void switchByUrl(WebDriver driver, String url) {
+        for (String handle : driver.getWindowHandles()) {
+            driver.switchTo().window(handle);
+            if (url.equals(driver.getCurrentUrl())) return;
+        }
+        throw new IllegalStateException("New browser context window " + url + " not found");
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver;
+    }
+
+    public int sessions() {
+        return contexts.size();
+    }
+
+    private void shutdown() {
+        browser.close();
+        try {
+            host.quit();
+        } catch (RuntimeException ignored) {
+        }
+        service.stop();
+    }
+
+    // Minimal client for the browser-level DevTools websocket (Target domain only).
+    private static class BrowserConnection implements WebSocket.Listener {
+        private final Json json = new Json();
+        private final AtomicLong ids = new AtomicLong();
+        private final Map<Long, CompletableFuture<Map<String, Object>>> pending = new ConcurrentHashMap<>();
+        private final StringBuilder partial = new StringBuilder();
+        private final WebSocket socket;
+
+        BrowserConnection(String debuggerAddress) {
+            HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            try {
+                HttpResponse<String> version = http.send(
+                        HttpRequest.newBuilder(URI.create("http://" + debuggerAddress + "/json/version")).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                Map<String, Object> info = json.toType(version.body(), Json.MAP_TYPE);
+                String url = String.valueOf(info.get("webSocketDebuggerUrl"));
+                socket = http.newWebSocketBuilder().buildAsync(URI.create(url), this).get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not connect to the shared browser at " + debuggerAddress, e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> call(String method, Map<String, Object> params) {
+            long id = ids.incrementAndGet();
+            CompletableFuture<Map<String, Object>> response = new CompletableFuture<>();
+            pending.put(id, response);
+            try {
+                synchronized (socket) {
+                    socket.sendText(json.toJson(Map.of("id", id, "method", method, "params", params)), true).join();
+                }
+                Map<String, Object> message = response.get(30, TimeUnit.SECONDS);
+                if (message.containsKey("error")) throw new IllegalStateException(method + " failed: " + message.get("error"));
+                Object result = message.get("result");
+                return result == null ? Map.of() : (Map<String, Object>) result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted during " + method, e);
+            } catch (IllegalStateException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(method + " failed: " + e.getMessage(), e);
+            } finally {
+                pending.remove(id);
+            }
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                Map<String, Object> message = json.toType(partial.toString(), Json.MAP_TYPE);
+                partial.setLength(0);
+                Object id = message.get("id");
+                // Events (no id) are not subscribed to and ignored.
+                if (id instanceof Number) {
+                    CompletableFuture<Map<String, Object>> response = pending.get(((Number) id).longValue());
+                    if (response != null) response.complete(message);
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        void close() {
+            try {
+                socket.sendClose(WebSocket.NORMAL_CLOSURE, "").get(2, TimeUnit.SECONDS);
+            } catch (Exception ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package utils;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Recorded test durations, read from earlier testng-results.xml files:
+//   test-output/testng-results.xml, target/surefire-reports/testng-results.xml and anything listed in
+//   -Dtest.history (comma separated files or directories, searched recursively).
+// Only passed methods count; a method seen in several files gets its average duration. Configuration
+// methods (@BeforeClass login etc.) are summed into a per-class overhead, since they run once per class
+// wherever the class runs.
+public class TestHistory {
+    private final Map<String, Long> methodMillis;
+    private final Map<String, Long> classOverheadMillis;
+    private final List<Path> sources;
+
+    private TestHistory(Map<String, Long> methodMillis, Map<String, Long> classOverheadMillis, List<Path> sources) {
+        this.methodMillis = methodMillis;
+        this.classOverheadMillis = classOverheadMillis;
+        this.sources = sources;
+    }
+
+    public static TestHistory load() {
+        Set<Path> files = new LinkedHashSet<>();
+        List<String> roots = new ArrayList<>(List.of("test-output/testng-results.xml",
+                "target/surefire-reports/testng-results.xml"));
+        String extra = System.getProperty("test.history", "");
+        for (String root : extra.split(",")) {
+            if (!root.isBlank()) roots.add(root.trim());
+        }
+        for (String root : roots) {
+            files.addAll(resultFiles(Paths.get(root)));
+        }
+        return load(new ArrayList<>(files));
+    }
+
+    public static TestHistory load(List<Path> files) {
+        Map<String, long[]> methods = new HashMap<>();
+        Map<String, long[]> overhead = new HashMap<>();
+        List<Path> used = new ArrayList<>();
+        for (Path file : files) {
+            try {
+                read(file, methods, overhead);
+                used.add(file);
+            } catch (Exception e) {
+                System.out.println("⚠️ Ignoring unreadable test history " + file + ": " + e.getMessage());
+            }
+        }
+        return new TestHistory(averages(methods), averages(overhead), used);
+    }
+
+    public boolean isEmpty() {
+        return methodMillis.isEmpty();
+    }
+
+    public List<Path> sources() {
+        return Collections.unmodifiableList(sources);
+    }
+
+    // Recorded duration of class#method, or -1 when it has never been seen.
+    public long methodMillis(String className, String methodName) {
+        return methodMillis.getOrDefault(className + "#" + methodName, -1L);
+    }
+
+    // Average duration per "class#method".
+    public Map<String, Long> methods() {
+        return Collections.unmodifiableMap(methodMillis);
+    }
+
+    public long classOverheadMillis(String className) {
+        return classOverheadMillis.getOrDefault(className, 0L);
+    }
+
+    private static List<Path> resultFiles(Path root) {
+        if (Files.isRegularFile(root)) return List.of(root);
+        if (!Files.isDirectory(root)) return List.of();
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(p -> p.getFileName().toString().equals("testng-results.xml")).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private static void read(Path file, Map<String, long[]> methods, Map<String, long[]> overhead) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        NodeList classes = builder.parse(file.toFile()).getElementsByTagName("class");
+
+        Map<String, Long> fileOverhead = new HashMap<>();
+        for (int i = 0; i < classes.getLength(); i++) {
+            Element cls = (Element) classes.item(i);
+            String className = cls.getAttribute("name");
+            NodeList testMethods = cls.getElementsByTagName("test-method");
+            for (int j = 0; j < testMethods.getLength(); j++) {
+                Element m = (Element) testMethods.item(j);
+                long ms = parse(m.getAttribute("duration-ms"));
+                // Failures often end in a timeout and skips take no time; neither predicts a normal run.
+                if (ms < 0 || !"PASS".equals(m.getAttribute("status"))) continue;
+                if ("true".equals(m.getAttribute("is-config"))) {
+                    fileOverhead.merge(className, ms, Long::sum);
+                } else {
+                    accumulate(methods, className + "#" + m.getAttribute("name"), ms);
+                }
+            }
+        }
+        fileOverhead.forEach((cls, ms) -> accumulate(overhead, cls, ms));
+    }
+
+    private static void accumulate(Map<String, long[]> totals, String key, long ms) {
+        long[] t = totals.computeIfAbsent(key, k -> new long[2]);
+        t[0] += ms;
+        t[1]++;
+    }
+
+    private static Map<String, Long> averages(Map<String, long[]> totals) {
+        Map<String, Long> averages = new HashMap<>();
+        totals.forEach((k, t) -> averages.put(k, t[0] / t[1]));
+        return averages;
+    }
+
+    private static long parse(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return methodMillis.size() + " method(s) from " + sources.stream().map(Path::toString)
+                .map(s -> s.replace(File.separatorChar, '/')).collect(Collectors.joining(", "));
+    }
+}
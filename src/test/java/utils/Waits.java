@@ -0,0 +1,211 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Waits that settle on real page conditions instead of fixed sleeps:
+//  - domQuiet:    no DOM mutations (MutationObserver) for a quiet period
+//  - networkIdle: no pending fetch/XHR (patched in-page counters) for an idle period
+//  - stable:      an element's bounding box unchanged across several animation frames
+//  - until:       polling a condition with exponential backoff
+// Every wait records how long it actually took; see summary(). The settling waits give up quietly
+// after -Dwaits.settle.timeout.ms (default 5000), the way the sleeps they replace never failed.
+public class Waits {
+    private static final Map<String, LongSummaryStatistics> stats = new ConcurrentHashMap<>();
+    private static final Set<WebDriver> instrumented = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    // Idempotent; installed on every new document via CDP where available and lazily otherwise.
+    static final String INSTRUMENT =
+            "if (!window.__waits) {"
+            + "  const w = window.__waits = { pending: 0, lastMutation: performance.now(), lastNetwork: performance.now() };"
+            + "  const touchDom = () => { w.lastMutation = performance.now(); };"
+            + "  const observe = () => new MutationObserver(touchDom).observe(document.documentElement || document,"
+            + "      { subtree: true, childList: true, attributes: true, characterData: true });"
+            + "  if (document.documentElement) observe(); else document.addEventListener('DOMContentLoaded', observe);"
+            + "  const done = () => { w.pending = Math.max(0, w.pending - 1); w.lastNetwork = performance.now(); };"
+            + "  if (window.fetch) { const f = window.fetch; window.fetch = function () {"
+            + "    w.pending++; w.lastNetwork = performance.now();"
+            + "    return f.apply(this, arguments).finally(done); }; }"
+            + "  const send = XMLHttpRequest.prototype.send; XMLHttpRequest.prototype.send = function () {"
+            + "    w.pending++; w.lastNetwork = performance.now();"
+            + "    this.addEventListener('loadend', done, { once: true }); return send.apply(this, arguments); };"
+            + "}";
+
+    private static final String PROBE = INSTRUMENT
+            + "const w = window.__waits, now = performance.now();"
+            + "return [w.pending, Math.round(now - w.lastMutation), Math.round(now - w.lastNetwork)];";
+
+    private static final String STABLE =
+            "const el = arguments[0], frames = arguments[1], deadline = performance.now() + arguments[2],"
+            + "      done = arguments[arguments.length - 1];"
+            + "let last = null, same = 0;"
+            + "const tick = () => {"
+            + "  if (!el.isConnected) return done(false);"
+            + "  const r = el.getBoundingClientRect(), key = [r.top, r.left, r.width, r.height].join();"
+            + "  if (key === last) { if (++same >= frames) return done(true); } else { same = 0; last = key; }"
+            + "  if (performance.now() > deadline) return done(false);"
+            + "  requestAnimationFrame(tick);"
+            + "};"
+            + "requestAnimationFrame(tick);";
+
+    private static final Duration SETTLE_TIMEOUT = Duration.ofMillis(Long.getLong("waits.settle.timeout.ms", 5000));
+
+    private final WebDriver driver;
+    private final JavascriptExecutor js;
+    private final Duration timeout;
+
+    public Waits(WebDriver driver) {
+        this(driver, Duration.ofSeconds(15));
+    }
+
+    public Waits(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.js = (JavascriptExecutor) driver;
+        this.timeout = timeout;
+        instrument(driver);
+    }
+
+    public Waits withTimeout(Duration timeout) {
+        return new Waits(driver, timeout);
+    }
+
+    // Registers the in-page counters for every future document so requests fired during page load
+    // (and before the first probe) are counted too. Falls back to lazy injection on non-CDP drivers.
+    public static void instrument(WebDriver driver) {
+        if (!(driver instanceof HasCdp) || !instrumented.add(driver)) return;
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", INSTRUMENT));
+        } catch (RuntimeException e) {
+            instrumented.remove(driver);
+        }
+    }
+
+    // Drops the driver's registration so the next instrument() installs the counters again, e.g. after
+    // the driver was moved to a new target whose documents never got the script.
+    public static void forget(WebDriver driver) {
+        instrumented.remove(driver);
+    }
+
+    public void domQuiet() {
+        domQuiet(Duration.ofMillis(300));
+    }
+
+    public void domQuiet(Duration quietFor) {
+        settleOn("domQuiet", d -> probe()[1] >= quietFor.toMillis() ? Boolean.TRUE : null);
+    }
+
+    public void networkIdle() {
+        networkIdle(Duration.ofMillis(200));
+    }
+
+    public void networkIdle(Duration idleFor) {
+        settleOn("networkIdle", d -> {
+            long[] p = probe();
+            return p[0] == 0 && p[2] >= idleFor.toMillis() ? Boolean.TRUE : null;
+        });
+    }
+
+    // Network idle followed by DOM quiescence: the usual "the UI has finished reacting" signal.
+    public void settle() {
+        networkIdle();
+        domQuiet();
+    }
+
+    // Waits until the element has not moved or resized for a few animation frames
+    // (scrollIntoView smooth scrolling, expanding panels, etc.).
+    public void stable(WebElement element) {
+        stable(element, 3);
+    }
+
+    public void stable(WebElement element, int frames) {
+        long start = System.nanoTime();
+        Object settled = js.executeAsyncScript(STABLE, element, frames, SETTLE_TIMEOUT.toMillis());
+        record(Boolean.TRUE.equals(settled) ? "stable" : "stable (timeout)", start);
+    }
+
+    // Polls the condition until it returns a non-null, non-FALSE value. Polling starts at 25 ms and
+    // doubles up to 400 ms, so fast UIs are picked up quickly without hammering slow ones.
+    public <T> T until(String name, Function<WebDriver, T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long delay = 25;
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(name, start);
+                    return value;
+                }
+            } catch (StaleElementReferenceException | NoSuchElementException e) {
+                lastError = e;
+            }
+            if (System.nanoTime() + delay * 1_000_000 > deadline) {
+                record(name + " (timeout)", start);
+                throw new TimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for " + name, lastError);
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("Interrupted while waiting for " + name, e);
+            }
+            delay = Math.min(delay * 2, 400);
+        }
+    }
+
+    // Settling waits replace fixed sleeps, so like a sleep they never fail the test: a page that
+    // keeps animating or polling just costs SETTLE_TIMEOUT and is recorded as a timeout.
+    private void settleOn(String name, Function<WebDriver, Boolean> condition) {
+        try {
+            withTimeout(SETTLE_TIMEOUT).until(name, condition);
+        } catch (TimeoutException e) {
+            System.out.println("⚠️ " + name + " did not settle within " + SETTLE_TIMEOUT.toMillis() + " ms; continuing.");
+        }
+    }
+
+    // Returns [pendingRequests, msSinceLastMutation, msSinceLastNetworkActivity].
+    private long[] probe() {
+        @SuppressWarnings("unchecked")
+        List<Number> values = (List<Number>) js.executeScript(PROBE);
+        return new long[] { values.get(0).longValue(), values.get(1).longValue(), values.get(2).longValue() };
+    }
+
+    private static void record(String name, long startNanos) {
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        stats.compute(name, (k, s) -> {
+            LongSummaryStatistics updated = s == null ? new LongSummaryStatistics() : s;
+            updated.accept(millis);
+            return updated;
+        });
+    }
+
+    public static Map<String, LongSummaryStatistics> stats() {
+        return new TreeMap<>(stats);
+    }
+
+    public static String summary() {
+        StringBuilder sb = new StringBuilder("Wait summary (count / total ms / avg ms / max ms):\n");
+        stats().forEach((name, s) -> sb.append(String.format("  %-22s %5d %8d %8.0f %7d%n",
+                name, s.getCount(), s.getSum(), s.getAverage(), s.getMax())));
+        return sb.toString();
+    }
+}
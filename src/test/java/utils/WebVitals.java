@@ -0,0 +1,217 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.testng.Assert;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// Front-end metrics for each page visit, checked against per-page budgets.
+//
+// A PerformanceObserver injected into every document (CDP Page.addScriptToEvaluateOnNewDocument, so it
+// sees the page from its first byte) records LCP, layout shifts and long tasks. Around a page visit,
+// mark() notes where the browser's performance timeline stands and measure() reads what happened since:
+//   hard navigation (driver.get)  navigation timing (ttfbMs, domContentLoadedMs, loadMs) and lcpMs
+//   soft navigation (SPA click)   elapsedMs from mark to measure; there is no LCP for SPA route changes
+//   both                          cls, longTasks, blockingMs (long-task time over 50 ms), resources,
+//                                 transferKb, slowestResourceMs
+// Drivers without CDP (remote grids) get the observer on first measure(), with buffered entries only.
+//
+// Each measurement is printed and appended to the current test's "webVitals" attribute. Budgets come
+// from perf-budgets.properties on the test classpath (-Dperf.budgets.file=... to use another file):
+//   hobby-club-listing.lcpMs.warn=2500
+//   hobby-club-listing.lcpMs.fail=4000
+// A "warn" breach is printed and attached; a "fail" breach fails the test (outside a test method it
+// only warns). An lcpMs of 0 means no LCP was recorded yet and is reported as not measured. -Dperf.budgets=warn downgrades every breach to a warning, -Dperf.budgets=off skips the
+// check, -Dwebvitals=false turns measuring off.
+public class WebVitals {
+    private static final String OBSERVER = String.join("\n",
+            "(function () {",
+            "  if (window.__vitals) return;",
+            "  var v = window.__vitals = { lcp: 0, shifts: [], longTasks: [] };",
+            "  try { performance.setResourceTimingBufferSize(1000); } catch (e) {}",
+            "  function keep(list, entry) { list.push(entry); if (list.length > 500) list.shift(); }",
+            "  function observe(type, onEntry) {",
+            "    try {",
+            "      new PerformanceObserver(function (l) { l.getEntries().forEach(onEntry); }).observe({ type: type, buffered: true });",
+            "    } catch (e) {}",
+            "  }",
+            "  observe('largest-contentful-paint', function (e) { v.lcp = e.renderTime || e.loadTime || e.startTime; });",
+            "  observe('layout-shift', function (e) { if (!e.hadRecentInput) keep(v.shifts, [e.startTime, e.value]); });",
+            "  observe('longtask', function (e) { keep(v.longTasks, [e.startTime, e.duration]); });",
+            "})();");
+
+    private static final String COLLECT = String.join("\n",
+            "var origin = arguments[0], since = arguments[1];",
+            "if (!window.__vitals) { " + OBSERVER.replace("\n", " ") + " }",
+            "var v = window.__vitals;",
+            "var hard = origin !== performance.timeOrigin;",
+            "var from = hard ? 0 : since;",
+            "var out = { url: location.href, navigation: hard ? 'hard' : 'soft' };",
+            "var nav = performance.getEntriesByType('navigation')[0];",
+            "if (hard && nav) {",
+            "  out.ttfbMs = nav.responseStart; out.domContentLoadedMs = nav.domContentLoadedEventEnd;",
+            "  out.loadMs = nav.loadEventEnd; out.lcpMs = v.lcp;",
+            "}",
+            "out.elapsedMs = performance.now() - from;",
+            "out.cls = v.shifts.filter(function (s) { return s[0] >= from; }).reduce(function (a, s) { return a + s[1]; }, 0);",
+            "var tasks = v.longTasks.filter(function (t) { return t[0] >= from; });",
+            "out.longTasks = tasks.length;",
+            "out.blockingMs = tasks.reduce(function (a, t) { return a + Math.max(0, t[1] - 50); }, 0);",
+            "var res = performance.getEntriesByType('resource').filter(function (r) { return r.startTime >= from; });",
+            "out.resources = res.length;",
+            "out.transferKb = res.reduce(function (a, r) { return a + (r.transferSize || 0); }, 0) / 1024;",
+            "out.slowestResourceMs = res.reduce(function (a, r) { return Math.max(a, r.duration); }, 0);",
+            "return out;");
+
+    private static final Properties budgets = loadBudgets();
+
+    // Where the performance timeline stood before a page visit.
+    public static class Mark {
+        final Object timeOrigin;
+        final Object now;
+
+        Mark(Object timeOrigin, Object now) {
+            this.timeOrigin = timeOrigin;
+            this.now = now;
+        }
+    }
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("webvitals", "true"));
+    }
+
+    // Injects the observer into every new document of this driver; a no-op without CDP.
+    public static void installIfEnabled(WebDriver driver) {
+        if (!enabled() || !(driver instanceof HasDevTools)) return;
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument", Map.of("source", OBSERVER)));
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ Web vitals observer not installed: " + e.getMessage());
+        }
+    }
+
+    public static Mark mark(WebDriver driver) {
+        if (!enabled()) return null;
+        try {
+            List<?> mark = (List<?>) ((JavascriptExecutor) driver)
+                    .executeScript("return [performance.timeOrigin, performance.now()];");
+            return new Mark(mark.get(0), mark.get(1));
+        } catch (RuntimeException e) {
+            return new Mark(null, 0);
+        }
+    }
+
+    // Reads the metrics since the mark, attaches them to the current test and checks the page's budgets.
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> measure(WebDriver driver, String page, Mark mark) {
+        if (!enabled() || mark == null) return Map.of();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("page", page);
+        try {
+            metrics.putAll((Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeScript(COLLECT, mark.timeOrigin, mark.now));
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ Web vitals for " + page + " unavailable: " + e.getMessage());
+            return Map.of();
+        }
+        System.out.println("🌐 " + describe(metrics));
+        // Outside a test method (set-up, load runs) a breach can only warn; failing @BeforeClass would skip the class.
+        ITestResult result = Reporter.getCurrentTestResult();
+        boolean inTest = result != null && result.getMethod() != null && result.getMethod().isTest();
+        List<String> failures = checkBudgets(page, metrics, inTest);
+        attach(result, metrics);
+        if (!failures.isEmpty()) {
+            Assert.fail("❌ Performance budget exceeded on " + page + ": " + String.join("; ", failures));
+        }
+        return metrics;
+    }
+
+    private static List<String> checkBudgets(String page, Map<String, Object> metrics, boolean enforce) {
+        String mode = System.getProperty("perf.budgets", "on");
+        if (!enforce && !mode.equalsIgnoreCase("off")) mode = "warn";
+        List<String> failures = new ArrayList<>();
+        if (mode.equalsIgnoreCase("off")) return failures;
+        List<String> warnings = new ArrayList<>();
+        for (Map.Entry<String, Object> metric : metrics.entrySet()) {
+            if (!(metric.getValue() instanceof Number)) continue;
+            double value = ((Number) metric.getValue()).doubleValue();
+            String key = page + "." + metric.getKey();
+            String fail = budgets.getProperty(key + ".fail");
+            String warn = budgets.getProperty(key + ".warn");
+            // No LCP entry yet (measured before the largest paint, or unsupported): not measured, not a pass.
+            if (metric.getKey().equals("lcpMs") && value == 0) {
+                if (fail != null || warn != null) warnings.add("lcpMs not measured");
+                continue;
+            }
+            if (fail != null && value > Double.parseDouble(fail)) {
+                String breach = metric.getKey() + " " + format(value) + " > " + fail;
+                if (mode.equalsIgnoreCase("warn")) warnings.add(breach);
+                else failures.add(breach);
+            } else if (warn != null && value > Double.parseDouble(warn)) {
+                warnings.add(metric.getKey() + " " + format(value) + " > " + warn);
+            }
+        }
+        if (!warnings.isEmpty()) {
+            System.out.println("⚠️ Performance budget warning on " + page + ": " + String.join("; ", warnings));
+            metrics.put("budgetWarnings", warnings);
+        }
+        if (!failures.isEmpty()) metrics.put("budgetFailures", failures);
+        return failures;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void attach(ITestResult result, Map<String, Object> metrics) {
+        if (result == null) return;
+        List<Map<String, Object>> visits = (List<Map<String, Object>>) result.getAttribute("webVitals");
+        if (visits == null) {
+            visits = new ArrayList<>();
+            result.setAttribute("webVitals", visits);
+        }
+        visits.add(metrics);
+    }
+
+    private static String describe(Map<String, Object> metrics) {
+        StringBuilder line = new StringBuilder();
+        for (Map.Entry<String, Object> metric : metrics.entrySet()) {
+            if (line.length() > 0) line.append(metric.getKey().equals("url") ? " " : ", ");
+            if (metric.getKey().equals("page")) line.append(metric.getValue());
+            else if (metric.getKey().equals("url")) line.append("(").append(metric.getValue()).append(")");
+            else line.append(metric.getKey()).append("=").append(metric.getValue() instanceof Number
+                    ? format(((Number) metric.getValue()).doubleValue()) : metric.getValue());
+        }
+        return line.toString();
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) || Math.abs(value) >= 10 ? String.valueOf(Math.round(value)) : String.format("%.3f", value);
+    }
+
+    private static Properties loadBudgets() {
+        Properties properties = new Properties();
+        String file = System.getProperty("perf.budgets.file");
+        try (InputStream in = file != null ? Files.newInputStream(Paths.get(file))
+                : WebVitals.class.getClassLoader().getResourceAsStream("perf-budgets.properties")) {
+            if (in != null) properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read performance budgets " + file, e);
+        }
+        return properties;
+    }
+}
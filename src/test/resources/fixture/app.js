@@ -0,0 +1,362 @@
+// Client-side replica of the ac-react pages exercised by the suite. Class names mirror the
+// production CSS-module names the page objects' locators depend on; keep them in sync.
+(function () {
+  'use strict';
+
+  const root = document.getElementById('maincomponent-layout-body-wrapper');
+  const params = new URLSearchParams(location.search);
+  const MONTHS = ['Jan', 'Feb', 'Mar', 'Apr', 'May', 'Jun', 'Jul', 'Aug', 'Sep', 'Oct', 'Nov', 'Dec'];
+  const ZONES = { India: ['Gurgaon', 'Bengaluru', 'Mumbai'], USA: ['New York', 'Seattle'] };
+
+  const esc = (s) => String(s).replace(/[&<>"']/g, (c) =>
+    ({ '&': '&amp;', '<': '&lt;', '>': '&gt;', '"': '&quot;', "'": '&#39;' }[c]));
+
+  async function api(method, path, body) {
+    const res = await fetch(path, {
+      method,
+      headers: body ? { 'Content-Type': 'application/json' } : {},
+      body: body ? JSON.stringify(body) : undefined
+    });
+    if (res.status === 401) {
+      location.replace('/signin');
+      throw new Error('unauthorized');
+    }
+    const data = await res.json().catch(() => ({}));
+    if (!res.ok) throw Object.assign(new Error(data.message || res.statusText), { status: res.status });
+    return data;
+  }
+
+  // "Jul 01, 12:27 PM" — the format verifyLast*Post parses.
+  function formatDate(ms) {
+    const d = new Date(ms);
+    const pad = (n) => String(n).padStart(2, '0');
+    const h = d.getHours() % 12 || 12;
+    return MONTHS[d.getMonth()] + ' ' + pad(d.getDate()) + ', ' + pad(h) + ':' + pad(d.getMinutes()) + ' '
+      + (d.getHours() < 12 ? 'AM' : 'PM');
+  }
+
+  function toast(message, kind) {
+    const el = document.createElement('div');
+    el.className = 'Toastify__toast Toastify__toast--' + (kind || 'success');
+    el.textContent = message; // single text node: the suite reads childNodes/text() directly
+    document.querySelector('.Toastify').appendChild(el);
+    setTimeout(() => el.remove(), 3000);
+  }
+
+  function confirmPopup(onConfirm) {
+    const wrapper = document.createElement('div');
+    wrapper.className = 'ConfirmationPopup_confirmationPopupWrapper__Cw6eT';
+    wrapper.innerHTML = '<div class="ConfirmationPopup_box__Cb2sX"><p>Are you sure?</p>'
+      + '<button value="cancel">Cancel</button> <button value="confirm">Confirm</button></div>';
+    wrapper.addEventListener('click', async (e) => {
+      const value = e.target.value;
+      if (!value) return;
+      wrapper.remove();
+      if (value === 'confirm') await onConfirm();
+    });
+    document.body.appendChild(wrapper);
+  }
+
+  function locationPopup(onChosen) {
+    const overlay = document.createElement('div');
+    overlay.className = 'LocationPopUp_overlay__Lo1vB';
+    overlay.innerHTML = '<div class="LocationPopUp_container__Lc9pT">'
+      + '<h3>Select your location</h3>'
+      + '<select class="p3 h-16 koreanNoTranslate"><option value="">Select Country</option>'
+      + Object.keys(ZONES).map((c) => '<option>' + c + '</option>').join('') + '</select>'
+      + '<div class="LocationPopUp_zones__Lz7cM"></div></div>';
+    const zones = overlay.querySelector('.LocationPopUp_zones__Lz7cM');
+    overlay.querySelector('select').addEventListener('change', (e) => {
+      zones.innerHTML = (ZONES[e.target.value] || [])
+        .map((z) => '<div class="LocationPopUp_zoneName__Zn4kD">' + z + '</div>').join('');
+    });
+    zones.addEventListener('click', (e) => {
+      if (!e.target.classList.contains('LocationPopUp_zoneName__Zn4kD')) return;
+      sessionStorage.setItem('zone', e.target.textContent);
+      overlay.remove();
+      if (onChosen) onChosen(e.target.textContent);
+    });
+    document.body.appendChild(overlay);
+  }
+
+  // ---------- pages ----------
+
+  function renderHome() {
+    root.innerHTML = '<h2>Welcome back!</h2><p>Pick a section to get started.</p>';
+    locationPopup();
+  }
+
+  async function renderClubList() {
+    if (!sessionStorage.getItem('zone')) locationPopup();
+    const clubs = await api('GET', '/api/clubs');
+    root.innerHTML = '<h2>Hobby Clubs</h2><div class="HobbyCard_grid__Hg5tR">' + clubs.map((c) =>
+      '<div class="HobbyCardComponent_hobbyCard__Hc2mE cursor-pointer" data-id="' + c.id + '">'
+      + '<img src="/static/banner.svg" alt="">'
+      + '<div class="inner_text_container"><p class="p1">' + esc(c.name) + '</p>'
+      + '<p class="p3">' + c.members + ' Members</p></div>'
+      + '<div class="HobbyCardComponent_descriptionText__DCzmn"><p><b>' + esc(c.quote) + '</b></p></div>'
+      + '</div>').join('') + '</div>';
+    root.querySelectorAll('.HobbyCardComponent_hobbyCard__Hc2mE').forEach((card) =>
+      card.addEventListener('click', () => { location.href = '/pages/hobby_club_detail?id=' + card.dataset.id; }));
+  }
+
+  async function renderClubDetail() {
+    const id = params.get('id');
+    const [club, posts] = await Promise.all([api('GET', '/api/clubs/' + id), api('GET', '/api/clubs/' + id + '/buzz')]);
+    root.innerHTML = '<div class="flex flex-col gap-4">'
+      + '<img class="w-full ClubDetail_banner__Cb3nQ" src="/static/banner.svg" alt="banner">'
+      + '<div class="ClubDetail_header__Ch7wX">'
+      + '<div class="font-semibold">' + esc(club.name) + '</div>'
+      + '<div class="font-semibold">' + club.points + ' Points</div>'
+      + '<div class="cursor-pointer ClubDetail_joinBtn__Cj5yU">' + (club.joined ? 'Leave' : 'Join') + '</div>'
+      + '</div>'
+      + '<div class="ClubDetail_description__Cd6vE"><p><b>' + esc(club.quote) + '</b></p></div>'
+      + '<div class="ClubDetail_stats__Cs2uW"><div class="ClubDetail_stat__Cs9mK"><p>' + club.members + '</p><p>Members</p></div></div>'
+      + '<div class="font-semibold text-center ClubDetail_memberCount__Cm1pQ">Members (' + club.members + ')</div>'
+      + '<div class="ClubDetail_tabs__Ct1zR"><div id="Buzz" class="ClubDetail_tab__Ct8aB">Buzz</div>'
+      + '<div id="Members" class="ClubDetail_tab__Ct8aB">Members</div></div>'
+      + '<div class="ClubDetail_tabContent__Tc5nB"></div>'
+      + '</div>';
+
+    const content = root.querySelector('.ClubDetail_tabContent__Tc5nB');
+    const joinBtn = root.querySelector('.ClubDetail_joinBtn__Cj5yU');
+    const setCounts = (n) => {
+      root.querySelector('.ClubDetail_stat__Cs9mK p').textContent = n;
+      root.querySelectorAll('.ClubDetail_memberCount__Cm1pQ').forEach((el) => { el.textContent = 'Members (' + n + ')'; });
+    };
+
+    joinBtn.addEventListener('click', async () => {
+      const join = joinBtn.textContent.trim() === 'Join';
+      const updated = await api('POST', '/api/clubs/' + id + (join ? '/join' : '/leave'));
+      joinBtn.textContent = updated.joined ? 'Leave' : 'Join';
+      setCounts(updated.members);
+      toast(join ? 'You have joined the hobby club successfully' : 'You have left the hobby club');
+    });
+
+    root.querySelector('#Buzz').addEventListener('click', () => renderBuzzTab(content, id, null));
+    root.querySelector('#Members').addEventListener('click', async () => {
+      const fresh = await api('GET', '/api/clubs/' + id);
+      renderMembersTab(content, fresh);
+    });
+    renderBuzzTab(content, id, posts);
+  }
+
+  async function renderBuzzTab(content, clubId, posts) {
+    posts = posts || await api('GET', '/api/clubs/' + clubId + '/buzz');
+    content.innerHTML = '<div class="PostStatus_container__Ps4dF">'
+      + '<textarea class="PostStatus_textArea__ySn55" placeholder="Share something with the club"></textarea>'
+      + '<div class="flex items-center gap-4">'
+      + '<input type="file" accept="image/*,video/*,audio/*">'
+      + '<div class="PostStatus_preview__Pp3xM"></div>'
+      + '<button class="PostStatus_postBtn__Pb7rT">Post</button>'
+      + '</div></div>'
+      + '<div class="Feed_centerContainer__Fc6hJ"></div>';
+
+    const feed = content.querySelector('.Feed_centerContainer__Fc6hJ');
+    const textArea = content.querySelector('textarea');
+    const fileInput = content.querySelector('input[type=file]');
+    const preview = content.querySelector('.PostStatus_preview__Pp3xM');
+    const postBtn = content.querySelector('.PostStatus_postBtn__Pb7rT');
+    let media = null;
+
+    posts.forEach((p) => feed.appendChild(postElement(p)));
+
+    fileInput.addEventListener('change', () => {
+      const file = fileInput.files[0];
+      if (!file) return;
+      const type = file.type.split('/')[0] || 'image';
+      media = { type, name: file.name };
+      preview.textContent = file.name;
+    });
+
+    postBtn.addEventListener('click', async () => {
+      postBtn.disabled = true;
+      try {
+        const post = await api('POST', '/api/clubs/' + clubId + '/buzz', { text: textArea.value, media });
+        feed.prepend(postElement(post));
+        textArea.value = '';
+        fileInput.value = '';
+        preview.textContent = '';
+        media = null;
+        toast('Buzz added successfully');
+      } catch (e) {
+        if (e.status) toast(e.message, 'error');
+      } finally {
+        postBtn.disabled = false;
+      }
+    });
+  }
+
+  function postElement(post) {
+    const el = document.createElement('div');
+    el.className = 'Feed_newsFeedContainer__Nf9kL';
+    el.dataset.id = post.id;
+    let mediaHtml = '';
+    if (post.media && post.media.type === 'audio') {
+      mediaHtml = '<div class="CustomAudioPlayer_audioPlayerComponentWrapper__Ca7pW">'
+        + '<audio controls src="/media/' + esc(post.media.name) + '"></audio></div>';
+    } else if (post.media && post.media.type === 'video') {
+      mediaHtml = '<video controls src="/media/' + esc(post.media.name) + '"></video>';
+    } else if (post.media) {
+      mediaHtml = '<img class="Feed_image__Fi8nM" src="/media/' + esc(post.media.name) + '" alt="">';
+    }
+    el.innerHTML = '<div class="flex Feed_postHeader__Ph2wE">'
+      + '<div><span class="font-semibold">' + esc(post.author) + '</span>'
+      + '<div class="p5 text-subtitle">' + formatDate(post.createdAt) + '</div></div>'
+      + '<div class="relative cursor-pointer"><div><svg width="20" height="20" viewBox="0 0 20 20">'
+      + '<circle cx="10" cy="4" r="2"/><circle cx="10" cy="10" r="2"/><circle cx="10" cy="16" r="2"/></svg></div></div>'
+      + '</div>'
+      + '<div class="koreanNoTranslate break-words p1 w-full">' + esc(post.text) + '</div>'
+      + mediaHtml
+      + '<div class="flex Feed_actions__Fa5qR">'
+      + '<div class="flex items-center gap-2"><img src="/static/fb2a529a83.svg" alt="like"><div>' + post.likes + '</div></div>'
+      + '<div class="flex items-center gap-2"><img src="/static/5959793ac8.svg" alt="comment">'
+      + '<span class="p1">' + post.comments.length + '</span></div>'
+      + '</div>';
+
+    // Three-dot menu: rendered only while open so hidden duplicates never match the locators.
+    const menuAnchor = el.querySelector('.relative.cursor-pointer');
+    menuAnchor.addEventListener('click', () => {
+      const open = menuAnchor.querySelector('.Feed_menu__Fm3tY');
+      if (open) { open.remove(); return; }
+      const menu = document.createElement('div');
+      menu.className = 'Feed_menu__Fm3tY';
+      menu.innerHTML = '<div class="px-8 py-2">Delete</div>';
+      menu.firstChild.addEventListener('click', (e) => {
+        e.stopPropagation();
+        menu.remove();
+        confirmPopup(async () => {
+          await api('DELETE', '/api/buzz/' + post.id);
+          el.remove();
+          toast('Buzz deleted successfully');
+        });
+      });
+      menuAnchor.appendChild(menu);
+    });
+
+    // Counts are updated in place: the suite holds on to these elements across the action.
+    const likeCount = el.querySelector('img[alt=like]').nextElementSibling;
+    el.querySelector('img[alt=like]').addEventListener('click', async () => {
+      const updated = await api('POST', '/api/buzz/' + post.id + '/like');
+      likeCount.textContent = updated.likes;
+    });
+
+    const commentCount = el.querySelector('span.p1');
+    el.querySelector('img[alt=comment]').addEventListener('click', () => toggleComments(el, post, commentCount));
+    return el;
+  }
+
+  function toggleComments(el, post, commentCount) {
+    const existing = el.querySelector('.FeedCommentSection_container__Fs1aZ');
+    document.querySelectorAll('.FeedCommentSection_container__Fs1aZ').forEach((s) => s.remove());
+    if (existing) return;
+
+    const section = document.createElement('div');
+    section.className = 'FeedCommentSection_container__Fs1aZ';
+    section.innerHTML = '<div class="flex items-center gap-2">'
+      + '<input placeholder="Comment here.." class="FeedCommentSection_input__Fi3kP">'
+      + '<span class="FeedCommentSection_commentBtn__Fc2bD cursor-pointer">Comment</span></div>'
+      + '<div class="FeedCommentSection_list__Fl6wQ"></div>';
+    const list = section.querySelector('.FeedCommentSection_list__Fl6wQ');
+    const input = section.querySelector('input');
+
+    const addComment = (c) => {
+      const row = document.createElement('div');
+      row.className = 'CommentFeed_userContainer__Cu4vX flex items-center';
+      row.innerHTML = '<span class="p4">' + esc(c.author) + '</span><span class="p3">' + esc(c.text) + '</span>'
+        + '<i class="fa-solid fa-trash-can"></i>';
+      row.querySelector('i').addEventListener('click', () => confirmPopup(async () => {
+        await api('DELETE', '/api/comments/' + c.id);
+        post.comments = post.comments.filter((x) => x.id !== c.id);
+        commentCount.textContent = post.comments.length;
+        row.remove();
+      }));
+      list.appendChild(row);
+    };
+    post.comments.forEach(addComment);
+
+    section.querySelector('.FeedCommentSection_commentBtn__Fc2bD').addEventListener('click', async () => {
+      const text = input.value.trim();
+      if (!text) return;
+      const comment = await api('POST', '/api/buzz/' + post.id + '/comments', { text });
+      post.comments.push(comment);
+      commentCount.textContent = post.comments.length;
+      input.value = '';
+      addComment(comment);
+    });
+    el.appendChild(section);
+  }
+
+  function renderMembersTab(content, club) {
+    content.innerHTML = '<div class="ClubMembers_container__Cm3tV">'
+      + '<div class="font-semibold text-center ClubDetail_memberCount__Cm1pQ">Members (' + club.members + ')</div>'
+      + '<input placeholder="Search" class="ClubMembers_search__Cs5hN">'
+      + '<div class="ClubMembers_list__Cl8rD"></div></div>';
+    const list = content.querySelector('.ClubMembers_list__Cl8rD');
+    const render = (q) => {
+      list.innerHTML = club.memberList
+        .filter((m) => m.name.toLowerCase().includes(q.toLowerCase()))
+        .map((m) => '<div class="flex items-center ClubMembers_card__Cc2vB">'
+          + '<a href="/pages/lookup?id=' + m.id + '"><div class="flex items-center gap-2">'
+          + '<div>' + esc(m.name) + '</div></div></a></div>').join('');
+    };
+    content.querySelector('input').addEventListener('input', (e) => render(e.target.value.trim()));
+    render('');
+  }
+
+  function renderLookup() {
+    root.innerHTML = '<div class="Lookup_profile__Lp4sM"><h2>Profile #' + esc(params.get('id')) + '</h2></div>';
+  }
+
+  async function renderVendors() {
+    locationPopup();
+    root.innerHTML = '<h2>Vendors</h2><div class="Vendor_grid__Vg1hM"></div>'
+      + '<div class="Vendor_loader__Vl4sC">Loading…</div>';
+    const grid = root.querySelector('.Vendor_grid__Vg1hM');
+    const loader = root.querySelector('.Vendor_loader__Vl4sC');
+    let offset = 0;
+    let loading = false;
+    let total = Infinity;
+
+    const loadMore = async () => {
+      if (loading || offset >= total) return;
+      loading = true;
+      const page = await api('GET', '/api/vendors?offset=' + offset + '&limit=24');
+      total = page.total;
+      grid.insertAdjacentHTML('beforeend', page.items.map((v) =>
+        '<div class="Vendor_vendorComponentContainer__X65Vl">'
+        + '<a href="/deals/' + v.id + '"><img src="/static/vendor.svg" alt=""></a>'
+        + '<h2 class="Vendor_vendorName__Vn2xT">' + esc(v.name) + '</h2></div>').join(''));
+      offset += page.items.length;
+      loading = false;
+      if (offset >= total) {
+        loader.remove();
+        observer.disconnect();
+      } else if (loader.getBoundingClientRect().top < innerHeight) {
+        loadMore();
+      }
+    };
+    const observer = new IntersectionObserver((entries) => {
+      if (entries.some((e) => e.isIntersecting)) loadMore();
+    });
+    observer.observe(loader);
+    loadMore();
+  }
+
+  const routes = {
+    '/': renderHome,
+    '/pages/hobby_clubs': renderClubList,
+    '/pages/hobby_club_detail': renderClubDetail,
+    '/pages/lookup': renderLookup,
+    '/pages/sections': renderVendors
+  };
+
+  api('GET', '/api/me').then(() => {
+    const render = routes[location.pathname.replace(/\/$/, '') || '/'];
+    if (render) {
+      render();
+    } else {
+      root.innerHTML = '<h2>Not found</h2>';
+    }
+  }).catch(() => {});
+})();